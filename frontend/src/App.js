@@ -16,10 +16,10 @@ function App() {
 
   const fetchStats = async () => {
     try {
-      const response = await songApi.getAllSongs();
+      const response = await songApi.getStats();
       setStats({
-        totalSongs: response.data.length,
-        charts: 2
+        totalSongs: response.data.totalSongs,
+        charts: response.data.chartCount
       });
     } catch (error) {
       console.error('통계 로딩 실패:', error);
@@ -44,6 +44,11 @@ function App() {
       label: 'Oricon', 
       icon: '🏆'
     },
+    { 
+      id: 'jpop-ranker', 
+      label: 'JPop Ranker', 
+      icon: '⭐'
+    },
     { 
       id: 'crawler', 
       label: '크롤링 관리', 
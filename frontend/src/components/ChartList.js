@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { songApi } from '../services/api';
 import { Crown, Music, Play, Pause, RotateCcw, ChevronLeft, ChevronRight } from 'lucide-react';
 import { motion, AnimatePresence } from 'framer-motion';
@@ -11,11 +11,19 @@ const ChartList = ({ chartName = 'billboard-japan', onDataUpdate }) => {
   const [isPlaying, setIsPlaying] = useState(false);
   const [showAll, setShowAll] = useState(false);
   const [direction, setDirection] = useState(0); // -1: 왼쪽, 1: 오른쪽
+  const versionRef = useRef(null); // 현재 보고 있는 차트 버전
 
   useEffect(() => {
     fetchSongs();
   }, [chartName]);
 
+  // 크롤링으로 차트가 바뀌면 서버가 알려줌 (주기적으로 다시 조회하지 않음)
+  useEffect(() => {
+    const eventSource = songApi.streamChart(chartName);
+    eventSource.addEventListener('diff', () => applyChanges());
+    return () => eventSource.close();
+  }, [chartName]);
+
   useEffect(() => {
     let interval;
     if (isPlaying && currentIndex < songs.length && !showAll) {
@@ -37,6 +45,7 @@ const ChartList = ({ chartName = 'billboard-japan', onDataUpdate }) => {
     try {
       setLoading(true);
       const response = await songApi.getSongsByChart(chartName);
+      versionRef.current = response.headers['x-chart-version'] ?? null;
       setSongs(response.data);
       setCurrentIndex(0);
       setIsPlaying(false);
@@ -50,6 +59,31 @@ const ChartList = ({ chartName = 'billboard-japan', onDataUpdate }) => {
     }
   };
 
+  // 바뀐 곡만 받아서 현재 목록에 반영 (너무 오래된 버전이면 서버가 전체 목록을 보냄)
+  const applyChanges = async () => {
+    if (versionRef.current === null) {
+      fetchSongs();
+      return;
+    }
+    try {
+      const { data } = await songApi.getChartChanges(chartName, versionRef.current);
+      versionRef.current = data.version;
+      if (data.full) {
+        setSongs(data.songs);
+        return;
+      }
+      const songKey = (song) => `${song.title}|${song.artist}`;
+      const removed = new Set([...data.dropped, ...data.moved].map(songKey));
+      setSongs(prev => [
+        ...prev.filter(song => !removed.has(songKey(song))),
+        ...[...data.moved, ...data.inserted].map(change => ({ ...change, chartName }))
+      ].sort((a, b) => a.ranking - b.ranking));
+      if (onDataUpdate) onDataUpdate();
+    } catch (err) {
+      console.error(err);
+    }
+  };
+
   const startAnimation = () => {
     setCurrentIndex(0);
     setIsPlaying(true);
@@ -20,6 +20,17 @@ const CrawlerControl = () => {
     setResults(prev => [newResult, ...prev.slice(0, 4)]); // 최근 5개만 유지
   };
 
+  // 크롤링 작업이 끝날 때까지 진행 상태 조회
+  const waitForJob = async (jobId) => {
+    while (true) {
+      const response = await crawlerApi.getJob(jobId);
+      if (response.data.finished) {
+        return response.data;
+      }
+      await new Promise(resolve => setTimeout(resolve, 1000));
+    }
+  };
+
   const handleCrawl = async (type) => {
     try {
       setLoading(prev => ({ ...prev, [type]: true }));
@@ -44,9 +55,16 @@ const CrawlerControl = () => {
           return;
       }
 
-      setStatus(response.data);
+      setStatus(`${typeName} 크롤링 진행 중...`);
+      const job = await waitForJob(response.data.jobId);
+      const success = job.status !== 'FAILED';
+      const message = success
+        ? `크롤링 ${job.status === 'PARTIAL' ? '일부 ' : ''}성공! (${job.savedCount}곡 저장, ${job.elapsedMillis}ms)`
+        : '크롤링 실패: ' + (job.error || job.results.map(result => result.message).join(', '));
+
+      setStatus(message);
       setLastCrawl(new Date().toLocaleString('ko-KR'));
-      addResult(typeName, true, '크롤링 성공!');
+      addResult(typeName, success, message);
 
       // 3초 후 상태 메시지 자동 새로고침
       setTimeout(() => {
@@ -11,7 +11,11 @@ const api = axios.create({
 
 // Songs API
 export const songApi = {
-  getAllSongs: () => api.get('/songs'),
+  getAllSongs: (cursor = 0, size = 100) => api.get('/songs', { params: { cursor, size } }),
+  getStats: () => api.get('/songs/stats'),
+  searchSongs: (q, limit = 20) => api.get('/songs/search', { params: { q, limit } }),
+  getChartChanges: (chartName, since) => api.get(`/songs/chart/${chartName}/changes`, { params: { since } }),
+  streamChart: (chartName) => new EventSource(`${API_BASE_URL}/songs/chart/${chartName}/stream`),
   getSongsByChart: (chartName) => api.get(`/songs/chart/${chartName}`),
 };
 
@@ -21,6 +25,17 @@ export const crawlerApi = {
   crawlOricon: () => api.post('/crawler/oricon'),
   crawlAll: () => api.post('/crawler/all'),
   getStatus: () => api.get('/crawler/status'),
+  getJob: (jobId) => api.get(`/crawler/jobs/${jobId}`),
+  backfill: (chartName, from, to, overwrite = false) => api.post('/crawler/backfill', { chartName, from, to, overwrite }),
+  getBackfillJob: (jobId) => api.get(`/crawler/backfill/${jobId}`),
+  reparse: (chartName, from, to) => api.post('/crawler/reparse', { chartName, from, to }),
+  getReparseJob: (jobId) => api.get(`/crawler/reparse/${jobId}`),
+};
+
+// Analytics API
+export const analyticsApi = {
+  getArtists: (params = {}) => api.get('/analytics/artists', { params }),
+  getSong: (songId) => api.get(`/analytics/songs/${songId}`),
 };
 
 export default api;
\ No newline at end of file
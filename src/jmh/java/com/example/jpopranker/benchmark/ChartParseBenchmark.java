@@ -0,0 +1,108 @@
+package com.example.jpopranker.benchmark;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.parser.BillboardJapanRowParser;
+import com.example.jpopranker.crawler.parser.ChartRow;
+import com.example.jpopranker.crawler.parser.ChartRowParser;
+import com.example.jpopranker.crawler.parser.OriconRowParser;
+import com.example.jpopranker.crawler.source.BillboardJapanChartSource;
+import com.example.jpopranker.crawler.source.OriconChartSource;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 저장해 둔 차트 페이지 파싱
+// *Page: DOM 생성 + 행 추출 전체, *Rows: 미리 만든 DOM에서 행 추출만
+// legacy*는 ChartRowParser 이전 방식 (LegacyRowExtraction)으로 같은 페이지를 처리한 기준값
+// 파싱에는 HTTP를 쓰지 않으므로 WebClient/HTTP 정책 없이 소스를 만듦
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChartParseBenchmark {
+
+    private final ChartRowParser billboardJapanRowParser = new BillboardJapanRowParser();
+    private final ChartRowParser oriconRowParser = new OriconRowParser();
+
+    private BillboardJapanChartSource billboardJapan;
+    private OriconChartSource oricon;
+    private int topN;
+    private String billboardJapanHtml;
+    private String oriconHtml;
+    private Document billboardJapanDoc;
+    private Document oriconDoc;
+
+    @Setup
+    public void setUp() {
+        CrawlerProperties crawlerProperties = new CrawlerProperties();
+        billboardJapan = new BillboardJapanChartSource(null, crawlerProperties, null);
+        oricon = new OriconChartSource(null, crawlerProperties, null);
+        topN = crawlerProperties.getChart(BillboardJapanChartSource.CHART_ID).getTopN();
+        billboardJapanHtml = Fixtures.html("billboard-japan.html");
+        oriconHtml = Fixtures.html("oricon.html");
+        billboardJapanDoc = Jsoup.parse(billboardJapanHtml);
+        oriconDoc = Jsoup.parse(oriconHtml);
+    }
+
+    @Benchmark
+    public List<SongRequestDto> billboardJapanPage() {
+        return billboardJapan.parse(billboardJapanHtml);
+    }
+
+    @Benchmark
+    public List<SongRequestDto> legacyBillboardJapanPage() {
+        return LegacyRowExtraction.billboardJapan(Jsoup.parse(billboardJapanHtml), topN);
+    }
+
+    @Benchmark
+    public List<SongRequestDto> oriconPage() {
+        return oricon.parse(oriconHtml);
+    }
+
+    @Benchmark
+    public List<SongRequestDto> legacyOriconPage() {
+        return LegacyRowExtraction.oricon(Jsoup.parse(oriconHtml), topN);
+    }
+
+    @Benchmark
+    public List<SongRequestDto> billboardJapanRows() {
+        return extractRows(billboardJapanDoc, billboardJapanRowParser, BillboardJapanChartSource.CHART_ID);
+    }
+
+    @Benchmark
+    public List<SongRequestDto> legacyBillboardJapanRows() {
+        return LegacyRowExtraction.billboardJapan(billboardJapanDoc, topN);
+    }
+
+    @Benchmark
+    public List<SongRequestDto> oriconRows() {
+        return extractRows(oriconDoc, oriconRowParser, OriconChartSource.CHART_ID);
+    }
+
+    @Benchmark
+    public List<SongRequestDto> legacyOriconRows() {
+        return LegacyRowExtraction.oricon(oriconDoc, topN);
+    }
+
+    // HtmlChartSource.extractRows와 같은 순서로 행 추출
+    private List<SongRequestDto> extractRows(Document doc, ChartRowParser rowParser, String chartId) {
+        List<SongRequestDto> songs = new ArrayList<>(topN);
+        for (Element row : doc.select(rowParser.rowEvaluator())) {
+            ChartRow chartRow = rowParser.parse(row);
+            if (chartRow == null) continue;
+            if (chartRow.rank() > topN) break;
+            songs.add(chartRow.toRequestDto(chartId));
+        }
+        return songs;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.jpopranker.benchmark;
+
+import com.example.jpopranker.chart.identity.SongNormalizer;
+import com.example.jpopranker.song.entity.Song;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 중복 정리와 같은 기준의 그룹핑 (SongRepository.deleteDuplicates / deleteAllSameRankingDuplicates)
+// 그룹마다 최신(chart_date, id가 큰) 곡 하나만 남김
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DuplicateGroupingBenchmark {
+
+    private static final Comparator<Song> LATEST = Comparator.comparing(Song::getChartDate)
+        .thenComparing(Song::getId);
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Song> songs;
+
+    @Setup
+    public void setUp() {
+        songs = Fixtures.songs(size, 0.2);
+    }
+
+    // 차트 + 버전 + 제목 + 아티스트
+    @Benchmark
+    public Map<String, Song> sameSong() {
+        return keepLatest(song -> song.getChartName() + "|" + song.getChartVersion() + "|"
+            + song.getTitle() + "|" + song.getArtist());
+    }
+
+    // 차트 + 버전 + 순위
+    @Benchmark
+    public Map<String, Song> sameRanking() {
+        return keepLatest(song -> song.getChartName() + "|" + song.getChartVersion() + "|" + song.getRanking());
+    }
+
+    // 표기 차이를 정규화한 제목 + 아티스트 (곡 ID를 매길 때와 같은 키)
+    @Benchmark
+    public Map<String, Song> sameNormalizedSong() {
+        return keepLatest(song -> SongNormalizer.normalizeTitle(song.getTitle()) + "|"
+            + SongNormalizer.normalizeArtist(song.getArtist()));
+    }
+
+    private Map<String, Song> keepLatest(Function<Song, String> key) {
+        Map<String, Song> latest = new HashMap<>();
+        for (Song song : songs) {
+            latest.merge(key.apply(song), song, (a, b) -> LATEST.compare(a, b) >= 0 ? a : b);
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.jpopranker.benchmark;
+
+import com.example.jpopranker.song.entity.RankMovement;
+import com.example.jpopranker.song.entity.Song;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 벤치마크 입력 데이터 (저장해 둔 HTML, 고정 시드로 만든 곡 목록)
+final class Fixtures {
+
+    private static final String[] TITLES = {
+        "夜に駆ける", "Bling-Bang-Bang-Born", "アイドル", "怪獣の花唄", "ケセラセラ", "Subtitle", "晩餐歌",
+        "ライラック", "唱", "Overdose", "ＳＰＥＣＩＡＬＺ", "満ちてゆく", "Same Blue", "Plazma", "Mela!"
+    };
+
+    private static final String[] ARTISTS = {
+        "YOASOBI", "Creepy Nuts", "Mrs. GREEN APPLE", "Vaundy", "Official髭男dism", "tuki.", "Ado",
+        "なとり", "King Gnu", "藤井 風", "米津玄師 feat. Hikaru Utada", "Ｎｕｍｂｅｒ＿ｉ", "BE:FIRST"
+    };
+
+    private static final String[] CHARTS = {"billboard-japan", "oricon"};
+
+    private Fixtures() {
+    }
+
+    static String html(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 차트 버전마다 100곡, 같은 곡이 duplicateRate 비율로 다시 들어간 곡 목록
+    static List<Song> songs(int size, double duplicateRate) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Song> songs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Song song = i > 0 && random.nextDouble() < duplicateRate
+                ? songs.get(random.nextInt(i))
+                : null;
+            long version = i / 100 + 1;
+            int ranking = i % 100 + 1;
+            songs.add(Song.builder()
+                .id((long) i + 1)
+                .title(song != null ? song.getTitle() : TITLES[random.nextInt(TITLES.length)] + " " + (i % 500))
+                .artist(song != null ? song.getArtist() : ARTISTS[random.nextInt(ARTISTS.length)])
+                .ranking(ranking)
+                .chartName(CHARTS[(int) (version % CHARTS.length)])
+                .chartDate(base.plusHours(i))
+                .chartVersion(song != null ? song.getChartVersion() : version)
+                .songIdentityId((long) random.nextInt(Math.max(1, size / 2)))
+                .movement(RankMovement.builder()
+                    .previousRanking(ranking + 1)
+                    .rankDelta(1)
+                    .peakRanking(ranking)
+                    .weeksOnChart(random.nextInt(1, 60))
+                    .newEntry(false)
+                    .reEntry(false)
+                    .build())
+                .createdAt(base.plusHours(i))
+                .build());
+        }
+        return songs;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.jpopranker.benchmark;
+
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.util.ArrayList;
+import java.util.List;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+// ChartRowParser 이전의 행 추출 방식 (비교 기준)
+// 행마다 CSS 문자열을 select()로 다시 파싱하고, 순위 검사와 앞 숫자 제거에 정규식을 사용
+// 행마다 찍던 info 로그는 벤치마크에서 꺼져 있으므로 뺌
+final class LegacyRowExtraction {
+
+    private LegacyRowExtraction() {
+    }
+
+    static List<SongRequestDto> billboardJapan(Document doc, int topN) {
+        Elements rankRows = doc.select("tr[class*=rank]");
+        List<SongRequestDto> songs = new ArrayList<>();
+        for (Element row : rankRows) {
+            SongRequestDto song = billboardJapanRow(row);
+            if (song == null) continue;
+            if (song.getRanking() > topN) break;
+            songs.add(song);
+        }
+        return songs;
+    }
+
+    static List<SongRequestDto> oricon(Document doc, int topN) {
+        Elements rankingItems = doc.select(".media-box");
+        List<SongRequestDto> songs = new ArrayList<>();
+        for (Element item : rankingItems) {
+            SongRequestDto song = oriconRow(item);
+            if (song != null && song.getRanking() <= topN) {
+                songs.add(song);
+            }
+        }
+        return songs;
+    }
+
+    private static SongRequestDto billboardJapanRow(Element row) {
+        try {
+            Element rankCell = row.select("td.rank_td span").first();
+            if (rankCell == null) return null;
+
+            String rankText = rankCell.text().trim();
+            if (!rankText.matches("^\\d+$")) return null;
+            int ranking = Integer.parseInt(rankText);
+
+            Element titleElement = row.select("p.musuc_title").first();
+            if (titleElement == null) return null;
+            String title = titleElement.text().trim();
+
+            Element artistElement = row.select("p.artist_name").first();
+            if (artistElement == null) return null;
+            String artist = artistElement.text().trim();
+
+            title = title.replaceAll("^\\d+\\s*", "").trim();
+            artist = artist.replaceAll("^\\d+\\s*", "").trim();
+
+            if (title.length() > 1 && artist.length() > 1
+                && !artist.equals("Unknown") && !title.equals(artist)) {
+                return new SongRequestDto(title, artist, ranking, "billboard-japan");
+            }
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static SongRequestDto oriconRow(Element item) {
+        try {
+            Element rankElement = item.select("p.media-rank").first();
+            if (rankElement == null) return null;
+            Integer ranking = Integer.parseInt(rankElement.text().trim());
+
+            Element titleElement = item.select("li.media-title").first();
+            if (titleElement == null) return null;
+            String title = titleElement.text().trim();
+
+            Element artistElement = item.select("li.media-artist").first();
+            if (artistElement == null) return null;
+            String artist = artistElement.text().trim();
+
+            if (title.isEmpty() || artist.isEmpty()) return null;
+            return new SongRequestDto(title, artist, ranking, "oricon");
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
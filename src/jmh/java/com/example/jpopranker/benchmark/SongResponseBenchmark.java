@@ -0,0 +1,62 @@
+package com.example.jpopranker.benchmark;
+
+import com.example.jpopranker.song.dto.response.SongResponseDto;
+import com.example.jpopranker.song.entity.Song;
+import com.example.jpopranker.song.store.ChartPayload;
+import com.example.jpopranker.song.store.ChartPayloadWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 차트 응답 만들기: Song -> SongResponseDto 변환과 JSON 직렬화
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SongResponseBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private List<Song> songs;
+    private List<SongResponseDto> responses;
+    private ObjectMapper objectMapper;
+    private ChartPayloadWriter payloadWriter;
+
+    @Setup
+    public void setUp() {
+        songs = Fixtures.songs(size, 0);
+        responses = songs.stream().map(SongResponseDto::from).toList();
+        // 스프링 부트 기본 설정과 같게 날짜는 ISO 문자열로
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        payloadWriter = new ChartPayloadWriter(objectMapper);
+    }
+
+    @Benchmark
+    public List<SongResponseDto> mapToResponse() {
+        return songs.stream().map(SongResponseDto::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    // 차트 버전이 바뀔 때 한번 하는 작업 (직렬화 + gzip + ETag 해시)
+    @Benchmark
+    public ChartPayload writePayload() {
+        return payloadWriter.write(1, responses);
+    }
+}
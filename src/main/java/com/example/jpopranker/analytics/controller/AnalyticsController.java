@@ -0,0 +1,51 @@
+package com.example.jpopranker.analytics.controller;
+
+import com.example.jpopranker.analytics.dto.response.ArtistStatsResponseDto;
+import com.example.jpopranker.analytics.dto.response.SongAnalyticsResponseDto;
+import com.example.jpopranker.analytics.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "아티스트/곡 누적 통계 API")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @Operation(summary = "아티스트 순위", description = "차트 엔트리 수, 1위 횟수, TOP 10 횟수 기준 아티스트 순위를 조회합니다.")
+    @Parameter(name = "chartName", description = "차트 이름 (없으면 전체 차트)", example = "billboard-japan")
+    @Parameter(name = "year", description = "연도 (없으면 전체 기간)", example = "2025")
+    @Parameter(name = "sort", description = "정렬 기준 (entries, number-ones, top10)", example = "entries")
+    @Parameter(name = "limit", description = "최대 결과 수 (최대 100)", example = "20")
+    @GetMapping("/artists")
+    public List<ArtistStatsResponseDto> getArtistLeaderboard(@RequestParam(required = false) String chartName,
+        @RequestParam(required = false) Integer year, @RequestParam(defaultValue = "entries") String sort,
+        @RequestParam(defaultValue = "20") int limit) {
+        return analyticsService.getArtistLeaderboard(chartName, year, sort, limit);
+    }
+
+    @Operation(summary = "곡 통계", description = "한 곡의 차트별 엔트리 수, 최고 순위, 최장 연속 기록을 조회합니다.")
+    @Parameter(name = "songId", description = "곡 ID (song_identities)", example = "1")
+    @GetMapping("/songs/{songId}")
+    public SongAnalyticsResponseDto getSongAnalytics(@PathVariable Long songId) {
+        return analyticsService.getSongAnalytics(songId);
+    }
+
+    @Operation(summary = "통계 재계산", description = "전체 차트 이력에서 통계를 다시 계산합니다.")
+    @PostMapping("/rebuild")
+    public String rebuild() {
+        analyticsService.rebuild();
+        return "통계 재계산 완료";
+    }
+}
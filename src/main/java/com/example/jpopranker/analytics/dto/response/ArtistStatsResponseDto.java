@@ -0,0 +1,26 @@
+package com.example.jpopranker.analytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtistStatsResponseDto {
+
+    private int rank;
+
+    private String artist;
+
+    private long entryCount;
+
+    private long numberOneCount;
+
+    private long top10Count;
+
+    // 조회 범위 전체 엔트리 중 이 아티스트의 비율 (0~1)
+    private double chartShare;
+}
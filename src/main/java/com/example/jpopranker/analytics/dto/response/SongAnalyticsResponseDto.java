@@ -0,0 +1,68 @@
+package com.example.jpopranker.analytics.dto.response;
+
+import com.example.jpopranker.analytics.entity.SongChartStats;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongAnalyticsResponseDto {
+
+    private Long songId;
+
+    private String title;
+
+    private String artist;
+
+    // 모든 차트 합계
+    private int totalEntries;
+
+    private Integer bestRanking;
+
+    private int longestRun;
+
+    private List<ChartStats> charts;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChartStats {
+
+        private String chartName;
+
+        private int entryCount;
+
+        private Integer bestRanking;
+
+        private LocalDate firstChartDate;
+
+        private LocalDate lastChartDate;
+
+        private Integer lastRanking;
+
+        // 마지막으로 오른 스냅샷까지 연속으로 오른 스냅샷 수
+        private Integer currentRun;
+
+        private Integer longestRun;
+
+        public static ChartStats from(SongChartStats stats) {
+            return ChartStats.builder()
+                .chartName(stats.getChartName())
+                .entryCount(stats.getEntryCount())
+                .bestRanking(stats.getBestRanking())
+                .firstChartDate(stats.getFirstChartDate())
+                .lastChartDate(stats.getLastChartDate())
+                .lastRanking(stats.getLastRanking())
+                .currentRun(stats.getCurrentRun())
+                .longestRun(stats.getLongestRun())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.jpopranker.analytics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아티스트 x 차트 x 연도 누적 통계 (스냅샷 엔트리 추가/교체분만큼 더하고 빼서 갱신)
+@Getter
+@Entity
+@Table(name = "artist_chart_stats",
+    uniqueConstraints = @UniqueConstraint(name = "uk_artist_chart_stats_artist_chart_year",
+        columnNames = {"artist_key", "chart_name", "chart_year"}))
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ArtistChartStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화하고 별칭을 대표 이름으로 바꾼 아티스트명 (SongIdentityIndex.artistKeyOf)
+    @Column(name = "artist_key", nullable = false, length = 300)
+    private String artistKey;
+
+    // 표시용 아티스트명 (마지막으로 반영된 표기)
+    @Column(nullable = false)
+    private String artist;
+
+    @Column(name = "chart_name", nullable = false)
+    private String chartName;
+
+    @Column(name = "chart_year", nullable = false)
+    private Integer chartYear;
+
+    // 차트 엔트리 수 (스냅샷마다 한 곡 = 1)
+    @Column(name = "entry_count", nullable = false)
+    private Integer entryCount;
+
+    @Column(name = "number_one_count", nullable = false)
+    private Integer numberOneCount;
+
+    @Column(name = "top10_count", nullable = false)
+    private Integer top10Count;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,64 @@
+package com.example.jpopranker.analytics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 곡 x 차트 누적 통계 (스냅샷이 저장될 때마다 갱신, 조회 시 이력을 읽지 않음)
+@Getter
+@Entity
+@Table(name = "song_chart_stats",
+    uniqueConstraints = @UniqueConstraint(name = "uk_song_chart_stats_song_chart",
+        columnNames = {"song_identity_id", "chart_name"}))
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class SongChartStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "song_identity_id", nullable = false)
+    private Long songIdentityId;
+
+    @Column(name = "chart_name", nullable = false)
+    private String chartName;
+
+    // 차트에 오른 스냅샷 수
+    @Column(name = "entry_count", nullable = false)
+    private Integer entryCount;
+
+    @Column(name = "best_ranking")
+    private Integer bestRanking;
+
+    @Column(name = "first_chart_date")
+    private LocalDate firstChartDate;
+
+    @Column(name = "last_chart_date")
+    private LocalDate lastChartDate;
+
+    @Column(name = "last_ranking")
+    private Integer lastRanking;
+
+    // 마지막으로 오른 스냅샷까지 연속으로 오른 스냅샷 수
+    @Column(name = "current_run")
+    private Integer currentRun;
+
+    // 가장 길게 연속으로 오른 스냅샷 수
+    @Column(name = "longest_run")
+    private Integer longestRun;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
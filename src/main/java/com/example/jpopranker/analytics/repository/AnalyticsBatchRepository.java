@@ -0,0 +1,150 @@
+package com.example.jpopranker.analytics.repository;
+
+import com.example.jpopranker.analytics.entity.ArtistChartStats;
+import com.example.jpopranker.analytics.entity.SongChartStats;
+import com.example.jpopranker.chart.entity.ChartEntry;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 통계 테이블 갱신용 JDBC 배치 (행마다 조회 후 저장하지 않고 upsert 한 번으로 처리)
+@Repository
+@RequiredArgsConstructor
+public class AnalyticsBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 최신 스냅샷이 추가된 경우 기존 값에 이어서 누적
+    // MySQL은 ON DUPLICATE KEY UPDATE를 왼쪽부터 적용하므로 longest_run은 갱신된 current_run과 비교됨
+    private static final String APPEND_SONG_SQL =
+        "INSERT INTO song_chart_stats (song_identity_id, chart_name, entry_count, best_ranking, first_chart_date, "
+            + "last_chart_date, last_ranking, current_run, longest_run, updated_at) "
+            + "VALUES (?, ?, 1, ?, ?, ?, ?, 1, 1, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "current_run = IF(last_chart_date = ?, current_run + 1, 1), "
+            + "longest_run = GREATEST(longest_run, current_run), "
+            + "entry_count = entry_count + 1, "
+            + "best_ranking = LEAST(best_ranking, VALUES(best_ranking)), "
+            + "last_chart_date = VALUES(last_chart_date), "
+            + "last_ranking = VALUES(last_ranking), "
+            + "updated_at = VALUES(updated_at)";
+
+    // 이력에서 다시 계산한 값으로 덮어쓰기
+    private static final String UPSERT_SONG_SQL =
+        "INSERT INTO song_chart_stats (song_identity_id, chart_name, entry_count, best_ranking, first_chart_date, "
+            + "last_chart_date, last_ranking, current_run, longest_run, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "entry_count = VALUES(entry_count), best_ranking = VALUES(best_ranking), "
+            + "first_chart_date = VALUES(first_chart_date), last_chart_date = VALUES(last_chart_date), "
+            + "last_ranking = VALUES(last_ranking), current_run = VALUES(current_run), "
+            + "longest_run = VALUES(longest_run), updated_at = VALUES(updated_at)";
+
+    private static final String DELETE_SONG_SQL =
+        "DELETE FROM song_chart_stats WHERE song_identity_id = ? AND chart_name = ?";
+
+    // 증감분을 더함 (교체된 엔트리는 음수로 들어옴)
+    private static final String ADD_ARTIST_SQL =
+        "INSERT INTO artist_chart_stats (artist_key, artist, chart_name, chart_year, entry_count, "
+            + "number_one_count, top10_count, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "artist = VALUES(artist), "
+            + "entry_count = entry_count + VALUES(entry_count), "
+            + "number_one_count = number_one_count + VALUES(number_one_count), "
+            + "top10_count = top10_count + VALUES(top10_count), "
+            + "updated_at = VALUES(updated_at)";
+
+    private static final String DELETE_EMPTY_ARTISTS_SQL =
+        "DELETE FROM artist_chart_stats WHERE chart_name = ? AND chart_year = ? AND entry_count <= 0";
+
+    private static final String DELETE_CHART_ARTISTS_SQL = "DELETE FROM artist_chart_stats WHERE chart_name = ?";
+
+    // 합쳐지거나 삭제된 곡 ID의 통계
+    private static final String DELETE_ORPHAN_SONGS_SQL =
+        "DELETE s FROM song_chart_stats s LEFT JOIN song_identities i ON i.id = s.song_identity_id "
+            + "WHERE i.id IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // previousChartDate: 이 차트의 직전 스냅샷 날짜 (그날에도 올랐으면 연속 기록이 이어짐)
+    public void appendSongEntries(String chartName, LocalDate chartDate, LocalDate previousChartDate,
+        Collection<ChartEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date date = Date.valueOf(chartDate);
+        Date previousDate = previousChartDate == null ? null : Date.valueOf(previousChartDate);
+        jdbcTemplate.batchUpdate(APPEND_SONG_SQL, List.copyOf(entries), BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.getSongIdentityId());
+            ps.setString(2, chartName);
+            ps.setInt(3, entry.getRanking());
+            ps.setDate(4, date);
+            ps.setDate(5, date);
+            ps.setInt(6, entry.getRanking());
+            ps.setTimestamp(7, now);
+            ps.setDate(8, previousDate);
+        });
+    }
+
+    public void upsertSongStats(List<SongChartStats> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SONG_SQL, stats, BATCH_SIZE, (ps, stat) -> {
+            ps.setLong(1, stat.getSongIdentityId());
+            ps.setString(2, stat.getChartName());
+            ps.setInt(3, stat.getEntryCount());
+            ps.setObject(4, stat.getBestRanking());
+            ps.setDate(5, Date.valueOf(stat.getFirstChartDate()));
+            ps.setDate(6, Date.valueOf(stat.getLastChartDate()));
+            ps.setObject(7, stat.getLastRanking());
+            ps.setObject(8, stat.getCurrentRun());
+            ps.setObject(9, stat.getLongestRun());
+            ps.setTimestamp(10, Timestamp.valueOf(stat.getUpdatedAt()));
+        });
+    }
+
+    public void deleteSongStats(String chartName, Collection<Long> songIds) {
+        if (songIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SONG_SQL, List.copyOf(songIds), BATCH_SIZE, (ps, songId) -> {
+            ps.setLong(1, songId);
+            ps.setString(2, chartName);
+        });
+    }
+
+    public int deleteOrphanSongStats() {
+        return jdbcTemplate.update(DELETE_ORPHAN_SONGS_SQL);
+    }
+
+    // 증감분 반영 후 엔트리가 0이 된 행은 삭제
+    public void addArtistStats(String chartName, int chartYear, List<ArtistChartStats> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_ARTIST_SQL, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setString(1, delta.getArtistKey());
+            ps.setString(2, delta.getArtist());
+            ps.setString(3, chartName);
+            ps.setInt(4, chartYear);
+            ps.setInt(5, delta.getEntryCount());
+            ps.setInt(6, delta.getNumberOneCount());
+            ps.setInt(7, delta.getTop10Count());
+            ps.setTimestamp(8, Timestamp.valueOf(delta.getUpdatedAt()));
+        });
+        jdbcTemplate.update(DELETE_EMPTY_ARTISTS_SQL, chartName, chartYear);
+    }
+
+    public void deleteArtistStats(String chartName) {
+        jdbcTemplate.update(DELETE_CHART_ARTISTS_SQL, chartName);
+    }
+}
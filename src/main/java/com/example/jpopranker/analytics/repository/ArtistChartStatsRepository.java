@@ -0,0 +1,31 @@
+package com.example.jpopranker.analytics.repository;
+
+import com.example.jpopranker.analytics.entity.ArtistChartStats;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArtistChartStatsRepository extends JpaRepository<ArtistChartStats, Long> {
+
+    // 아티스트별 합계 (chartName/year가 null이면 전체 차트/전체 연도)
+    @Query("SELECT MIN(a.artist) AS artist, SUM(a.entryCount) AS entryCount, "
+        + "SUM(a.numberOneCount) AS numberOneCount, SUM(a.top10Count) AS top10Count "
+        + "FROM ArtistChartStats a "
+        + "WHERE (:chartName IS NULL OR a.chartName = :chartName) AND (:year IS NULL OR a.chartYear = :year) "
+        + "GROUP BY a.artistKey")
+    List<ArtistTotal> findArtistTotals(@Param("chartName") String chartName, @Param("year") Integer year);
+
+    interface ArtistTotal {
+
+        String getArtist();
+
+        Long getEntryCount();
+
+        Long getNumberOneCount();
+
+        Long getTop10Count();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.jpopranker.analytics.repository;
+
+import com.example.jpopranker.analytics.entity.SongChartStats;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SongChartStatsRepository extends JpaRepository<SongChartStats, Long> {
+
+    List<SongChartStats> findBySongIdentityIdOrderByChartName(Long songIdentityId);
+}
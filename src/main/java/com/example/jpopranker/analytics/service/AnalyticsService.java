@@ -0,0 +1,364 @@
+package com.example.jpopranker.analytics.service;
+
+import com.example.jpopranker.analytics.dto.response.ArtistStatsResponseDto;
+import com.example.jpopranker.analytics.dto.response.SongAnalyticsResponseDto;
+import com.example.jpopranker.analytics.entity.ArtistChartStats;
+import com.example.jpopranker.analytics.entity.SongChartStats;
+import com.example.jpopranker.analytics.repository.AnalyticsBatchRepository;
+import com.example.jpopranker.analytics.repository.ArtistChartStatsRepository;
+import com.example.jpopranker.analytics.repository.ArtistChartStatsRepository.ArtistTotal;
+import com.example.jpopranker.analytics.repository.SongChartStatsRepository;
+import com.example.jpopranker.chart.entity.ChartEntry;
+import com.example.jpopranker.chart.entity.ChartSnapshot;
+import com.example.jpopranker.chart.entity.SongIdentity;
+import com.example.jpopranker.chart.event.ChartSnapshotRecordedEvent;
+import com.example.jpopranker.chart.event.SongIdentitiesAddedEvent;
+import com.example.jpopranker.chart.identity.SongIdentityIndex;
+import com.example.jpopranker.chart.repository.ChartEntryRepository;
+import com.example.jpopranker.chart.repository.ChartEntryRepository.SongEntry;
+import com.example.jpopranker.chart.repository.ChartEntryRepository.SongYearTally;
+import com.example.jpopranker.chart.repository.ChartSnapshotRepository;
+import com.example.jpopranker.chart.repository.SongIdentityRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+// 아티스트/곡 누적 통계
+// 스냅샷이 저장될 때 바뀐 만큼만 통계 테이블에 반영하고, 조회는 통계 테이블만 읽음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    private static final int MAX_LIMIT = 100;
+
+    // 이력을 한번에 읽을 곡 수
+    private static final int PAGE_SIZE = 500;
+
+    private final SongChartStatsRepository songChartStatsRepository;
+    private final ArtistChartStatsRepository artistChartStatsRepository;
+    private final AnalyticsBatchRepository analyticsBatchRepository;
+    private final ChartSnapshotRepository chartSnapshotRepository;
+    private final ChartEntryRepository chartEntryRepository;
+    private final SongIdentityRepository songIdentityRepository;
+    private final SongIdentityIndex songIdentityIndex;
+
+    // 아티스트 순위 (sort: entries, number-ones, top10)
+    public List<ArtistStatsResponseDto> getArtistLeaderboard(String chartName, Integer year, String sort, int limit) {
+        Comparator<ArtistTotal> order = switch (sort) {
+            case "entries" -> Comparator.comparing(ArtistTotal::getEntryCount);
+            case "number-ones" -> Comparator.comparing(ArtistTotal::getNumberOneCount);
+            case "top10" -> Comparator.comparing(ArtistTotal::getTop10Count);
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬: " + sort);
+        };
+
+        List<ArtistTotal> totals = artistChartStatsRepository.findArtistTotals(chartName, year);
+        long totalEntries = totals.stream().mapToLong(ArtistTotal::getEntryCount).sum();
+        List<ArtistTotal> sorted = totals.stream()
+            .sorted(order.reversed().thenComparing(ArtistTotal::getEntryCount, Comparator.reverseOrder()))
+            .limit(Math.max(1, Math.min(limit, MAX_LIMIT)))
+            .toList();
+
+        List<ArtistStatsResponseDto> leaderboard = new ArrayList<>(sorted.size());
+        for (ArtistTotal total : sorted) {
+            leaderboard.add(ArtistStatsResponseDto.builder()
+                .rank(leaderboard.size() + 1)
+                .artist(total.getArtist())
+                .entryCount(total.getEntryCount())
+                .numberOneCount(total.getNumberOneCount())
+                .top10Count(total.getTop10Count())
+                .chartShare(totalEntries == 0 ? 0 : (double) total.getEntryCount() / totalEntries)
+                .build());
+        }
+        return leaderboard;
+    }
+
+    // 곡 하나의 차트별 통계
+    public SongAnalyticsResponseDto getSongAnalytics(Long songId) {
+        SongIdentity identity = songIdentityRepository.findById(songId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 곡: " + songId));
+        List<SongChartStats> stats = songChartStatsRepository.findBySongIdentityIdOrderByChartName(songId);
+        return SongAnalyticsResponseDto.builder()
+            .songId(identity.getId())
+            .title(identity.getTitle())
+            .artist(identity.getArtist())
+            .totalEntries(stats.stream().mapToInt(SongChartStats::getEntryCount).sum())
+            .bestRanking(stats.stream()
+                .map(SongChartStats::getBestRanking)
+                .filter(ranking -> ranking != null)
+                .min(Comparator.naturalOrder())
+                .orElse(null))
+            .longestRun(stats.stream()
+                .map(SongChartStats::getLongestRun)
+                .filter(run -> run != null)
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(0))
+            .charts(stats.stream().map(SongAnalyticsResponseDto.ChartStats::from).toList())
+            .build();
+    }
+
+    // 스냅샷 저장 트랜잭션 안에서 같이 갱신 (스냅샷과 통계가 항상 함께 커밋됨)
+    @EventListener
+    public void onSnapshotRecorded(ChartSnapshotRecordedEvent event) {
+        updateSongStats(event);
+        updateArtistStats(event);
+    }
+
+    // 곡 ID가 합쳐졌으면 (별칭 등록, 중복 병합) 흡수한 곡의 통계만 이력에서 다시 계산
+    // 아티스트 키도 바뀌었을 수 있으므로 아티스트 통계는 차트별로 다시 집계
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIdentitiesReset(SongIdentitiesAddedEvent event) {
+        if (!event.isReset() || event.getMergedIds().isEmpty()) {
+            return;
+        }
+        analyticsBatchRepository.deleteOrphanSongStats();
+        for (String chartName : chartSnapshotRepository.findChartNames()) {
+            recomputeSongStats(chartName, event.getMergedIds());
+            rebuildArtistStats(chartName);
+        }
+        log.info("곡 ID 병합 후 통계 재계산 - 곡 {}개", event.getMergedIds().size());
+    }
+
+    // 통계 테이블이 비어 있으면 (처음 배포) 이력에서 한번 채움
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (songChartStatsRepository.count() == 0 && chartEntryRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    // 전체 이력에서 통계를 다시 계산 (관리용)
+    // 곡 통계는 차트별로 곡 ID를 나눠서 이력을 읽고, 아티스트 통계는 DB에서 곡 x 연도로 집계한 값으로 계산
+    @Transactional
+    public void rebuild() {
+        songChartStatsRepository.deleteAllInBatch();
+        artistChartStatsRepository.deleteAllInBatch();
+
+        List<String> chartNames = chartSnapshotRepository.findChartNames();
+        int songCount = 0;
+        for (String chartName : chartNames) {
+            List<Long> songIds = chartEntryRepository.findSongIds(chartName);
+            recomputeSongStats(chartName, songIds);
+            rebuildArtistStats(chartName);
+            songCount += songIds.size();
+        }
+        log.info("통계 재계산 완료 - 차트 {}개, 곡 x 차트 {}개", chartNames.size(), songCount);
+    }
+
+    private void rebuildArtistStats(String chartName) {
+        analyticsBatchRepository.deleteArtistStats(chartName);
+        List<SongYearTally> tallies = chartEntryRepository.findSongYearTallies(chartName);
+        Map<Long, String> artists = artistsOf(tallies.stream().map(SongYearTally::getSongIdentityId).toList());
+        LocalDateTime now = LocalDateTime.now();
+        tallies.stream()
+            .collect(Collectors.groupingBy(SongYearTally::getChartYear))
+            .forEach((year, yearTallies) -> {
+                Map<String, ArtistTally> artistTallies = new LinkedHashMap<>();
+                yearTallies.forEach(tally -> tally(artistTallies, artists, tally.getSongIdentityId(),
+                    tally.getEntryCount().intValue(), tally.getNumberOneCount().intValue(),
+                    tally.getTop10Count().intValue()));
+                analyticsBatchRepository.addArtistStats(chartName, year, artistStats(artistTallies, now));
+            });
+    }
+
+    private void updateSongStats(ChartSnapshotRecordedEvent event) {
+        String chartName = event.getChartName();
+        LocalDate chartDate = event.getChartDate();
+        Map<Long, ChartEntry> entries = new HashMap<>();
+        for (ChartEntry entry : event.getEntries()) {
+            entries.merge(entry.getSongIdentityId(), entry, (a, b) -> a.getRanking() <= b.getRanking() ? a : b);
+        }
+
+        Optional<ChartSnapshot> previous =
+            chartSnapshotRepository.findFirstByChartNameAndChartDateBeforeOrderByChartDateDesc(chartName, chartDate);
+        boolean appended = event.getRemovedEntries().isEmpty()
+            && !chartSnapshotRepository.existsByChartNameAndChartDateAfter(chartName, chartDate);
+        if (appended) {
+            analyticsBatchRepository.appendSongEntries(chartName, chartDate,
+                previous.map(ChartSnapshot::getChartDate).orElse(null), entries.values());
+            return;
+        }
+
+        // 같은 날짜를 다시 저장했거나 과거 날짜를 채워 넣은 경우
+        // 연속 기록이 바뀔 수 있는 곡(이번, 교체 전, 직전 스냅샷의 곡)만 이력에서 다시 계산
+        Set<Long> affected = new HashSet<>(entries.keySet());
+        event.getRemovedEntries().forEach(entry -> affected.add(entry.getSongIdentityId()));
+        previous.ifPresent(snapshot -> chartEntryRepository.findBySnapshotId(snapshot.getId())
+            .forEach(entry -> affected.add(entry.getSongIdentityId())));
+        recomputeSongStats(chartName, affected);
+    }
+
+    private void recomputeSongStats(String chartName, Collection<Long> songIds) {
+        if (songIds.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, Integer> positions = snapshotPositions(chartName);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = List.copyOf(songIds);
+        for (int from = 0; from < ids.size(); from += PAGE_SIZE) {
+            List<Long> page = ids.subList(from, Math.min(from + PAGE_SIZE, ids.size()));
+            Map<Long, List<SongEntry>> histories = chartEntryRepository.findSongEntries(chartName, page).stream()
+                .collect(Collectors.groupingBy(SongEntry::getSongIdentityId, LinkedHashMap::new,
+                    Collectors.toList()));
+
+            List<SongChartStats> stats = new ArrayList<>(histories.size());
+            histories.forEach((songId, history) -> stats.add(computeSongStats(chartName, songId, history, positions,
+                now)));
+            analyticsBatchRepository.upsertSongStats(stats);
+
+            Set<Long> removed = new HashSet<>(page);
+            removed.removeAll(histories.keySet());
+            analyticsBatchRepository.deleteSongStats(chartName, removed);
+        }
+    }
+
+    // 차트의 스냅샷 날짜 -> 순서 (연속 여부 판단용)
+    private Map<LocalDate, Integer> snapshotPositions(String chartName) {
+        List<ChartSnapshot> snapshots = chartSnapshotRepository.findByChartNameOrderByChartDateDesc(chartName);
+        Map<LocalDate, Integer> positions = new HashMap<>();
+        for (int i = 0; i < snapshots.size(); i++) {
+            positions.put(snapshots.get(i).getChartDate(), snapshots.size() - i);
+        }
+        return positions;
+    }
+
+    // 날짜순으로 정렬된 한 곡의 엔트리로 통계 계산
+    private static SongChartStats computeSongStats(String chartName, Long songId, List<SongEntry> history,
+        Map<LocalDate, Integer> positions, LocalDateTime now) {
+        int entryCount = 0;
+        int bestRanking = Integer.MAX_VALUE;
+        int currentRun = 0;
+        int longestRun = 0;
+        LocalDate firstChartDate = null;
+        LocalDate lastChartDate = null;
+        Integer lastRanking = null;
+        Integer lastPosition = null;
+        for (SongEntry entry : history) {
+            bestRanking = Math.min(bestRanking, entry.getRanking());
+            if (entry.getChartDate().equals(lastChartDate)) {
+                lastRanking = Math.min(lastRanking, entry.getRanking()); // 같은 날짜에 두 순위로 오른 경우
+                continue;
+            }
+            Integer position = positions.get(entry.getChartDate());
+            boolean consecutive = lastPosition != null && position != null && position == lastPosition + 1;
+            currentRun = consecutive ? currentRun + 1 : 1;
+            longestRun = Math.max(longestRun, currentRun);
+            entryCount++;
+            if (firstChartDate == null) {
+                firstChartDate = entry.getChartDate();
+            }
+            lastChartDate = entry.getChartDate();
+            lastRanking = entry.getRanking();
+            lastPosition = position;
+        }
+        return SongChartStats.builder()
+            .songIdentityId(songId)
+            .chartName(chartName)
+            .entryCount(entryCount)
+            .bestRanking(bestRanking)
+            .firstChartDate(firstChartDate)
+            .lastChartDate(lastChartDate)
+            .lastRanking(lastRanking)
+            .currentRun(currentRun)
+            .longestRun(longestRun)
+            .updatedAt(now)
+            .build();
+    }
+
+    // 새 엔트리는 더하고 교체된 엔트리는 뺌 (한 스냅샷은 한 연도에 속함)
+    private void updateArtistStats(ChartSnapshotRecordedEvent event) {
+        List<ChartEntry> all = new ArrayList<>(event.getEntries());
+        all.addAll(event.getRemovedEntries());
+        analyticsBatchRepository.addArtistStats(event.getChartName(), event.getChartDate().getYear(),
+            artistDeltas(event.getEntries(), event.getRemovedEntries(), artistsOf(all), LocalDateTime.now()));
+    }
+
+    private List<ArtistChartStats> artistDeltas(List<ChartEntry> added, List<ChartEntry> removed,
+        Map<Long, String> artists, LocalDateTime now) {
+        Map<String, ArtistTally> tallies = new LinkedHashMap<>();
+        added.forEach(entry -> tally(tallies, artists, entry, 1));
+        removed.forEach(entry -> tally(tallies, artists, entry, -1));
+        return artistStats(tallies, now);
+    }
+
+    private static List<ArtistChartStats> artistStats(Map<String, ArtistTally> tallies, LocalDateTime now) {
+        return tallies.entrySet().stream()
+            .filter(tally -> !tally.getValue().isEmpty())
+            .map(tally -> ArtistChartStats.builder()
+                .artistKey(tally.getKey())
+                .artist(tally.getValue().artist)
+                .entryCount(tally.getValue().entryCount)
+                .numberOneCount(tally.getValue().numberOneCount)
+                .top10Count(tally.getValue().top10Count)
+                .updatedAt(now)
+                .build())
+            .toList();
+    }
+
+    private void tally(Map<String, ArtistTally> tallies, Map<Long, String> artists, ChartEntry entry, int sign) {
+        tally(tallies, artists, entry.getSongIdentityId(), sign, entry.getRanking() == 1 ? sign : 0,
+            entry.getRanking() <= 10 ? sign : 0);
+    }
+
+    private void tally(Map<String, ArtistTally> tallies, Map<Long, String> artists, Long songId, int entryCount,
+        int numberOneCount, int top10Count) {
+        String artist = artists.get(songId);
+        if (artist == null) {
+            return;
+        }
+        ArtistTally tally = tallies.computeIfAbsent(songIdentityIndex.artistKeyOf(artist),
+            key -> new ArtistTally(artist));
+        tally.entryCount += entryCount;
+        tally.numberOneCount += numberOneCount;
+        tally.top10Count += top10Count;
+    }
+
+    // 곡 ID -> 아티스트 표기
+    private Map<Long, String> artistsOf(Collection<ChartEntry> entries) {
+        return artistsOf(entries.stream().map(ChartEntry::getSongIdentityId).collect(Collectors.toSet()));
+    }
+
+    private Map<Long, String> artistsOf(Iterable<Long> songIds) {
+        return songIdentityRepository.findAllById(songIds).stream()
+            .collect(Collectors.toMap(SongIdentity::getId, SongIdentity::getArtist));
+    }
+
+    private static final class ArtistTally {
+
+        private final String artist;
+        private int entryCount;
+        private int numberOneCount;
+        private int top10Count;
+
+        private ArtistTally(String artist) {
+            this.artist = artist;
+        }
+
+        private boolean isEmpty() {
+            return entryCount == 0 && numberOneCount == 0 && top10Count == 0;
+        }
+    }
+}
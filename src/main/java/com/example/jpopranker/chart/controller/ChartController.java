@@ -0,0 +1,60 @@
+package com.example.jpopranker.chart.controller;
+
+import com.example.jpopranker.chart.dto.request.ArtistAliasRequestDto;
+import com.example.jpopranker.chart.dto.response.ChartEntryResponseDto;
+import com.example.jpopranker.chart.dto.response.ChartSnapshotResponseDto;
+import com.example.jpopranker.chart.identity.SongIdentityIndex;
+import com.example.jpopranker.chart.service.ChartSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/charts")
+@RequiredArgsConstructor
+@Tag(name = "Charts", description = "차트 이력 조회 API")
+public class ChartController {
+
+    private final ChartSnapshotService chartSnapshotService;
+    private final SongIdentityIndex songIdentityIndex;
+
+    @Operation(summary = "차트 스냅샷 목록", description = "차트의 날짜별 스냅샷 목록을 최신순으로 조회합니다.")
+    @Parameter(name = "chartName", description = "차트 이름", example = "billboard-japan")
+    @GetMapping("/{chartName}/snapshots")
+    public List<ChartSnapshotResponseDto> getSnapshots(@PathVariable String chartName) {
+        return chartSnapshotService.getSnapshots(chartName);
+    }
+
+    @Operation(summary = "특정 날짜 차트 조회", description = "차트의 특정 날짜 순위를 조회합니다.")
+    @Parameter(name = "chartName", description = "차트 이름", example = "billboard-japan")
+    @Parameter(name = "chartDate", description = "차트 날짜 (yyyy-MM-dd)", example = "2025-08-18")
+    @GetMapping("/{chartName}/snapshots/{chartDate}")
+    public List<ChartEntryResponseDto> getChart(@PathVariable String chartName,
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate chartDate) {
+        return chartSnapshotService.getChart(chartName, chartDate);
+    }
+
+    @Operation(summary = "곡 차트 이력 조회", description = "한 곡의 전체 차트 이력을 조회합니다.")
+    @Parameter(name = "songId", description = "곡 ID (song_identities)", example = "1")
+    @GetMapping("/songs/{songId}/history")
+    public List<ChartEntryResponseDto> getSongHistory(@PathVariable Long songId) {
+        return chartSnapshotService.getSongHistory(songId);
+    }
+
+    @Operation(summary = "아티스트 별칭 등록", description = "다른 표기의 아티스트를 같은 아티스트로 묶습니다. 이미 따로 저장된 곡은 하나로 합쳐집니다.")
+    @PostMapping("/aliases/artists")
+    public String addArtistAlias(@RequestBody ArtistAliasRequestDto request) {
+        int mergedCount = songIdentityIndex.addArtistAlias(request.getAlias(), request.getCanonical());
+        return request.getAlias() + " -> " + request.getCanonical() + " 별칭 등록 완료 (곡 " + mergedCount + "개 병합)";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.jpopranker.chart.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtistAliasRequestDto {
+
+    private String alias;
+    private String canonical;
+
+}
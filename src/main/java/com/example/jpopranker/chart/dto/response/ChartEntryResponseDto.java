@@ -0,0 +1,37 @@
+package com.example.jpopranker.chart.dto.response;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChartEntryResponseDto {
+
+    private String chartName;
+
+    private LocalDate chartDate;
+
+    private Integer ranking;
+
+    private Long songId;
+
+    private String title;
+
+    private String artist;
+
+    private Integer previousRanking;
+
+    // 양수면 상승
+    private Integer rankDelta;
+
+    private Integer peakRanking;
+
+    private Integer weeksOnChart;
+
+    private Boolean newEntry;
+
+    private Boolean reEntry;
+}
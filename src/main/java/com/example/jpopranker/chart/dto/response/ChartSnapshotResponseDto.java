@@ -0,0 +1,37 @@
+package com.example.jpopranker.chart.dto.response;
+
+import com.example.jpopranker.chart.entity.ChartSnapshot;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChartSnapshotResponseDto {
+
+    private Long id;
+
+    private String chartName;
+
+    private LocalDate chartDate;
+
+    private Integer entryCount;
+
+    private LocalDateTime crawledAt;
+
+    // Entity -> DTO 변환 메서드
+    public static ChartSnapshotResponseDto from(ChartSnapshot snapshot) {
+        return ChartSnapshotResponseDto.builder()
+            .id(snapshot.getId())
+            .chartName(snapshot.getChartName())
+            .chartDate(snapshot.getChartDate())
+            .entryCount(snapshot.getEntryCount())
+            .crawledAt(snapshot.getCrawledAt())
+            .build();
+    }
+}
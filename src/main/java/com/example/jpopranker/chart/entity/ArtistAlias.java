@@ -0,0 +1,32 @@
+package com.example.jpopranker.chart.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아티스트 별칭 (예: "kenshi yonezu" -> "米津玄師"), 둘 다 정규화한 값으로 저장
+@Getter
+@Entity
+@Table(name = "artist_aliases")
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ArtistAlias {
+
+    @Id
+    @Column(name = "alias_name")
+    private String aliasName;
+
+    @Column(name = "canonical_name", nullable = false)
+    private String canonicalName;
+
+    @Column(name = "created_at")
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,56 @@
+package com.example.jpopranker.chart.entity;
+
+import com.example.jpopranker.song.entity.RankMovement;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 스냅샷 안의 순위 한 줄
+// chart_name/chart_date를 함께 저장해서 "차트 X의 D일자"와 "곡 S의 이력" 조회가 인덱스만으로 끝나도록 함
+@Getter
+@Entity
+@Table(name = "chart_entries", indexes = {
+    @Index(name = "uk_chart_entry_chart_date_rank",
+        columnList = "chart_name, chart_date, ranking, song_identity_id", unique = true),
+    @Index(name = "idx_chart_entry_song_history",
+        columnList = "song_identity_id, chart_name, chart_date, ranking"),
+    @Index(name = "idx_chart_entry_snapshot", columnList = "snapshot_id")
+})
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ChartEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "snapshot_id", nullable = false)
+    private Long snapshotId;
+
+    @Column(name = "chart_name", nullable = false)
+    private String chartName;
+
+    @Column(name = "chart_date", nullable = false)
+    private LocalDate chartDate;
+
+    @Column(nullable = false)
+    private Integer ranking;
+
+    @Column(name = "song_identity_id", nullable = false)
+    private Long songIdentityId;
+
+    // 직전 스냅샷 대비 순위 변동
+    @Embedded
+    private RankMovement movement;
+}
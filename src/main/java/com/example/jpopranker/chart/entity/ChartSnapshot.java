@@ -0,0 +1,42 @@
+package com.example.jpopranker.chart.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 차트 하나의 특정 날짜 스냅샷 (차트 + 날짜당 하나)
+@Getter
+@Entity
+@Table(name = "chart_snapshots",
+    uniqueConstraints = @UniqueConstraint(name = "uk_chart_snapshot_chart_date", columnNames = {"chart_name", "chart_date"}))
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ChartSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chart_name", nullable = false)
+    private String chartName;
+
+    @Column(name = "chart_date", nullable = false)
+    private LocalDate chartDate;
+
+    @Column(name = "entry_count")
+    private Integer entryCount;
+
+    @Column(name = "crawled_at")
+    private LocalDateTime crawledAt;
+}
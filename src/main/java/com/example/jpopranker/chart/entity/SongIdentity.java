@@ -0,0 +1,48 @@
+package com.example.jpopranker.chart.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 곡 식별 정보 (차트 엔트리마다 제목/아티스트를 반복 저장하지 않도록 분리)
+// 표기가 달라도 정규화 키가 같으면 같은 곡 (title/artist는 처음 저장된 표기)
+@Getter
+@Entity
+@Table(name = "song_identities",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_song_identity_title_artist", columnNames = {"title", "artist"}),
+        @UniqueConstraint(name = "uk_song_identity_normalized_key", columnNames = {"normalized_key"})
+    })
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class SongIdentity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 유니크 키가 대소문자/악센트/가나 차이를 같은 값으로 보지 않도록 바이너리 비교
+    @Column(nullable = false, columnDefinition = "varchar(255) collate utf8mb4_bin")
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "varchar(255) collate utf8mb4_bin")
+    private String artist;
+
+    // 정규화한 "제목|아티스트" (SongIdentityIndex가 관리)
+    @Column(name = "normalized_key", length = 500, columnDefinition = "varchar(500) collate utf8mb4_bin")
+    private String normalizedKey;
+
+    @Column(name = "created_at")
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
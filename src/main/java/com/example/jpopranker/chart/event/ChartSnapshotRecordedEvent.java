@@ -0,0 +1,24 @@
+package com.example.jpopranker.chart.event;
+
+import com.example.jpopranker.chart.entity.ChartEntry;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 스냅샷 엔트리가 저장되었을 때 스냅샷 저장 트랜잭션 안에서 발행
+// 같은 날짜를 다시 저장한 경우 removedEntries에 교체 전 엔트리가 들어 있음
+@Getter
+@ToString(of = {"chartName", "chartDate"})
+@AllArgsConstructor
+public class ChartSnapshotRecordedEvent {
+
+    private final String chartName;
+
+    private final LocalDate chartDate;
+
+    private final List<ChartEntry> removedEntries;
+
+    private final List<ChartEntry> entries;
+}
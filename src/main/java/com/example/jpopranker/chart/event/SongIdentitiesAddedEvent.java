@@ -0,0 +1,22 @@
+package com.example.jpopranker.chart.event;
+
+import com.example.jpopranker.chart.entity.SongIdentity;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 곡 ID가 새로 등록되었을 때 발행 (reset이면 identities가 전체 목록이므로 처음부터 다시 구성)
+@Getter
+@ToString(exclude = "identities")
+@AllArgsConstructor
+public class SongIdentitiesAddedEvent {
+
+    private final List<SongIdentity> identities;
+
+    private final boolean reset;
+
+    // 중복 ID를 흡수한 대표 곡 ID (reset일 때만, 이력이 바뀐 곡)
+    private final Set<Long> mergedIds;
+}
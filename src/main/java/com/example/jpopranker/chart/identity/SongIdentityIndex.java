@@ -0,0 +1,206 @@
+package com.example.jpopranker.chart.identity;
+
+import com.example.jpopranker.chart.entity.ArtistAlias;
+import com.example.jpopranker.chart.entity.SongIdentity;
+import com.example.jpopranker.chart.event.SongIdentitiesAddedEvent;
+import com.example.jpopranker.chart.repository.ArtistAliasRepository;
+import com.example.jpopranker.chart.repository.ChartBatchRepository;
+import com.example.jpopranker.chart.repository.SongIdentityRepository;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 정규화 키 -> 대표 곡 ID 메모리 인덱스
+// 크롤링 행은 대부분 이미 아는 곡이라 해시 조회 한번으로 ID가 정해지고, 처음 보는 곡만 DB에 추가
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongIdentityIndex {
+
+    private final SongIdentityRepository songIdentityRepository;
+    private final ArtistAliasRepository artistAliasRepository;
+    private final ChartBatchRepository chartBatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, Long> index = new ConcurrentHashMap<>();
+
+    // 정규화한 별칭 -> 정규화한 대표 아티스트명
+    private volatile Map<String, String> artistAliases = Map.of();
+
+    public String keyOf(String title, String artist) {
+        return SongNormalizer.normalizeTitle(title) + "|" + artistKeyOf(artist);
+    }
+
+    // 정규화하고 별칭을 대표 이름으로 바꾼 아티스트명
+    public String artistKeyOf(String artist) {
+        String normalizedArtist = SongNormalizer.normalizeArtist(artist);
+        return artistAliases.getOrDefault(normalizedArtist, normalizedArtist);
+    }
+
+    @Transactional
+    public Long resolve(String title, String artist) {
+        return resolveAll(List.of(new SongRequestDto(title, artist, null, null))).get(rawKey(title, artist));
+    }
+
+    // 원본 "제목|아티스트" -> 곡 ID
+    @Transactional
+    public Map<String, Long> resolveAll(Collection<SongRequestDto> songs) {
+        PendingIdentities pending = pendingIdentities();
+        Map<String, String> keys = new HashMap<>();
+        Map<String, SongIdentity> missing = new LinkedHashMap<>();
+        for (SongRequestDto song : songs) {
+            String key = keys.computeIfAbsent(rawKey(song.getTitle(), song.getArtist()),
+                raw -> keyOf(song.getTitle(), song.getArtist()));
+            if (!index.containsKey(key) && !pending.ids.containsKey(key)) {
+                missing.putIfAbsent(key, SongIdentity.builder()
+                    .title(song.getTitle())
+                    .artist(song.getArtist())
+                    .normalizedKey(key)
+                    .build());
+            }
+        }
+        if (!missing.isEmpty()) {
+            addIdentities(missing, pending);
+        }
+
+        Map<String, Long> identityIds = new HashMap<>();
+        keys.forEach((raw, key) -> {
+            Long id = index.get(key);
+            identityIds.put(raw, id != null ? id : pending.ids.get(key));
+        });
+        return identityIds;
+    }
+
+    // 처음 보는 곡만 한번에 추가하고 다시 조회 (다른 트랜잭션이 먼저 넣었으면 INSERT IGNORE로 무시됨)
+    // 트랜잭션이 커밋되기 전에는 공유 인덱스에 넣지 않음 (롤백되면 없는 ID를 다른 크롤링이 쓰게 되므로)
+    private void addIdentities(Map<String, SongIdentity> missing, PendingIdentities pending) {
+        chartBatchRepository.insertIdentities(List.copyOf(missing.values()));
+        List<SongIdentity> added = songIdentityRepository.findByNormalizedKeyIn(missing.keySet());
+        for (SongIdentity identity : added) {
+            pending.ids.put(identity.getNormalizedKey(), identity.getId());
+        }
+        pending.added.addAll(added);
+
+        // 다른 트랜잭션이 넣고 아직 커밋하지 않은 키 등은 여기서 보이지 않음
+        List<String> unresolved = missing.keySet().stream()
+            .filter(key -> !pending.ids.containsKey(key))
+            .toList();
+        if (!unresolved.isEmpty()) {
+            throw new IllegalStateException("곡 ID를 등록하지 못함: " + unresolved);
+        }
+        log.debug("새 곡 ID {}개 등록", missing.size());
+    }
+
+    // 현재 트랜잭션에서 새로 등록한 곡 ID (커밋되면 인덱스에 반영하고 이벤트 발행, 롤백되면 버림)
+    private PendingIdentities pendingIdentities() {
+        PendingIdentities pending = (PendingIdentities) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        PendingIdentities created = new PendingIdentities();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.putAll(created.ids);
+                if (!created.added.isEmpty()) {
+                    eventPublisher.publishEvent(new SongIdentitiesAddedEvent(created.added, false, Set.of()));
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(SongIdentityIndex.this);
+            }
+        });
+        return created;
+    }
+
+    // 시작 시 (그리고 별칭이 바뀌면) 전체 곡의 키를 다시 계산
+    // 키가 같아진 곡은 가장 오래된 ID로 합침
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<String, String> aliases = new HashMap<>();
+        for (ArtistAlias alias : artistAliasRepository.findAll()) {
+            aliases.put(alias.getAliasName(), alias.getCanonicalName());
+        }
+        artistAliases = Map.copyOf(aliases);
+
+        Map<String, Long> rebuilt = new HashMap<>();
+        Map<Long, String> changedKeys = new HashMap<>();
+        List<SongIdentity> canonicalIdentities = new ArrayList<>();
+        Set<Long> mergedIds = new HashSet<>();
+        int mergedCount = 0;
+        for (SongIdentity identity : songIdentityRepository.findAll(Sort.by("id"))) {
+            String key = keyOf(identity.getTitle(), identity.getArtist());
+            Long canonicalId = rebuilt.putIfAbsent(key, identity.getId());
+            if (canonicalId != null) {
+                chartBatchRepository.mergeIdentity(identity.getId(), canonicalId);
+                mergedIds.add(canonicalId);
+                mergedCount++;
+                continue;
+            }
+            canonicalIdentities.add(identity);
+            if (!key.equals(identity.getNormalizedKey())) {
+                changedKeys.put(identity.getId(), key);
+            }
+        }
+
+        // 키끼리 잠깐 겹치지 않도록 비운 다음 새 키 저장
+        Map<Long, String> cleared = new HashMap<>();
+        changedKeys.keySet().forEach(id -> cleared.put(id, null));
+        chartBatchRepository.updateIdentityKeys(cleared);
+        chartBatchRepository.updateIdentityKeys(changedKeys);
+
+        index.putAll(rebuilt);
+        index.keySet().retainAll(rebuilt.keySet());
+        eventPublisher.publishEvent(new SongIdentitiesAddedEvent(canonicalIdentities, true, mergedIds));
+        log.info("곡 ID 인덱스 구성 완료 - 곡 {}개, 키 갱신 {}개, 중복 병합 {}개",
+            rebuilt.size(), changedKeys.size(), mergedCount);
+    }
+
+    // 아티스트 별칭 등록 후 인덱스 재구성 (이미 따로 저장된 곡은 여기서 합쳐짐)
+    @Transactional
+    public int addArtistAlias(String alias, String canonical) {
+        String normalizedAlias = SongNormalizer.normalizeArtist(alias);
+        String normalizedCanonical = SongNormalizer.normalizeArtist(canonical);
+        if (normalizedAlias.isEmpty() || normalizedCanonical.isEmpty() || normalizedAlias.equals(normalizedCanonical)) {
+            throw new IllegalArgumentException("잘못된 별칭: " + alias + " -> " + canonical);
+        }
+        artistAliasRepository.save(ArtistAlias.builder()
+            .aliasName(normalizedAlias)
+            .canonicalName(normalizedCanonical)
+            .build());
+        int before = index.size();
+        rebuild();
+        return before - index.size();
+    }
+
+    private static String rawKey(String title, String artist) {
+        return title + "|" + artist;
+    }
+
+    private static final class PendingIdentities {
+
+        private final Map<String, Long> ids = new HashMap<>();
+        private final List<SongIdentity> added = new ArrayList<>();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.jpopranker.chart.identity;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 같은 곡이 차트마다 다르게 표기되는 것을 하나의 키로 맞춤
+// NFKC로 전각/반각(영숫자, 가타카나)을 통일하고, 공백과 feat. 표기를 정리
+public final class SongNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // "(feat X)", "[ft. X]", "feat. X", "ft. X", "featuring X" 이후는 같은 곡으로 취급
+    // 괄호 밖에서는 점이 있어야 함 ("Great Feat of Strength" 같은 제목이 잘리지 않도록)
+    private static final Pattern FEATURING = Pattern.compile(
+        "\\s*(?:[(\\[]\\s*(?:feat\\.?|ft\\.?|featuring)|\\b(?:feat\\.|ft\\.|featuring))\\s.*$",
+        Pattern.CASE_INSENSITIVE);
+
+    private SongNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(folded).replaceAll(" ").trim();
+    }
+
+    public static String normalizeTitle(String title) {
+        return stripFeaturing(normalize(title));
+    }
+
+    public static String normalizeArtist(String artist) {
+        return stripFeaturing(normalize(artist));
+    }
+
+    private static String stripFeaturing(String value) {
+        String stripped = FEATURING.matcher(value).replaceFirst("");
+        // feat. 표기만 있는 이상한 값이면 원래 값 유지
+        return stripped.isEmpty() ? value : stripped;
+    }
+}
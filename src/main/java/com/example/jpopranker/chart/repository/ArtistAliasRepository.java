@@ -0,0 +1,9 @@
+package com.example.jpopranker.chart.repository;
+
+import com.example.jpopranker.chart.entity.ArtistAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArtistAliasRepository extends JpaRepository<ArtistAlias, String> {
+}
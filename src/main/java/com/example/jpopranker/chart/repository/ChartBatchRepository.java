@@ -0,0 +1,118 @@
+package com.example.jpopranker.chart.repository;
+
+import com.example.jpopranker.chart.entity.ChartEntry;
+import com.example.jpopranker.chart.entity.SongIdentity;
+import com.example.jpopranker.song.entity.RankMovement;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 스냅샷 저장용 JDBC 배치 (IDENTITY 전략이라 Hibernate 배치가 안 되는 부분)
+@Repository
+@RequiredArgsConstructor
+public class ChartBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 이미 있는 곡은 유니크 제약으로 무시
+    private static final String INSERT_IDENTITY_SQL =
+        "INSERT IGNORE INTO song_identities (title, artist, normalized_key, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_IDENTITY_KEY_SQL = "UPDATE song_identities SET normalized_key = ? WHERE id = ?";
+
+    // 같은 곡으로 판정된 중복 ID를 대표 ID로 합치기
+    private static final String MERGE_ENTRIES_SQL =
+        "UPDATE IGNORE chart_entries SET song_identity_id = ? WHERE song_identity_id = ?";
+    private static final String DELETE_MERGED_ENTRIES_SQL = "DELETE FROM chart_entries WHERE song_identity_id = ?";
+    private static final String MERGE_SONGS_SQL =
+        "UPDATE IGNORE songs SET song_identity_id = ? WHERE song_identity_id = ?";
+    private static final String DELETE_MERGED_SONGS_SQL = "DELETE FROM songs WHERE song_identity_id = ?";
+    private static final String DELETE_IDENTITY_SQL = "DELETE FROM song_identities WHERE id = ?";
+
+    private static final String INSERT_ENTRY_SQL =
+        "INSERT INTO chart_entries (snapshot_id, chart_name, chart_date, ranking, song_identity_id, "
+            + "previous_ranking, rank_delta, peak_ranking, weeks_on_chart, new_entry, re_entry) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_ENTRY_MOVEMENT_SQL =
+        "UPDATE chart_entries SET previous_ranking = ?, rank_delta = ?, peak_ranking = ?, weeks_on_chart = ?, "
+            + "new_entry = ?, re_entry = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIdentities(List<SongIdentity> identities) {
+        if (identities.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_IDENTITY_SQL, identities, BATCH_SIZE, (ps, identity) -> {
+            ps.setString(1, identity.getTitle());
+            ps.setString(2, identity.getArtist());
+            ps.setString(3, identity.getNormalizedKey());
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    // id -> 정규화 키 (null이면 키를 비움)
+    public void updateIdentityKeys(Map<Long, String> normalizedKeys) {
+        if (normalizedKeys.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_IDENTITY_KEY_SQL, List.copyOf(normalizedKeys.entrySet()), BATCH_SIZE,
+            (ps, entry) -> {
+                ps.setString(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+            });
+    }
+
+    // 중복 곡 ID의 엔트리/현재 차트 행을 대표 ID로 옮기고 중복 ID 삭제
+    public void mergeIdentity(long duplicateId, long canonicalId) {
+        jdbcTemplate.update(MERGE_ENTRIES_SQL, canonicalId, duplicateId);
+        jdbcTemplate.update(DELETE_MERGED_ENTRIES_SQL, duplicateId); // 같은 날짜 같은 순위로 겹쳐서 못 옮긴 행
+        jdbcTemplate.update(MERGE_SONGS_SQL, canonicalId, duplicateId);
+        jdbcTemplate.update(DELETE_MERGED_SONGS_SQL, duplicateId); // 같은 차트 버전에 대표 곡이 이미 있는 행
+        jdbcTemplate.update(DELETE_IDENTITY_SQL, duplicateId);
+    }
+
+    public void insertEntries(List<ChartEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.getSnapshotId());
+            ps.setString(2, entry.getChartName());
+            ps.setDate(3, Date.valueOf(entry.getChartDate()));
+            ps.setInt(4, entry.getRanking());
+            ps.setLong(5, entry.getSongIdentityId());
+            RankMovement movement = entry.getMovement() != null ? entry.getMovement() : new RankMovement();
+            ps.setObject(6, movement.getPreviousRanking());
+            ps.setObject(7, movement.getRankDelta());
+            ps.setObject(8, movement.getPeakRanking());
+            ps.setObject(9, movement.getWeeksOnChart());
+            ps.setObject(10, movement.getNewEntry());
+            ps.setObject(11, movement.getReEntry());
+        });
+    }
+
+    // 이미 저장된 엔트리의 순위 변동만 갱신 (과거 날짜 백필 후 재계산)
+    public void updateEntryMovements(List<ChartEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_ENTRY_MOVEMENT_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            RankMovement movement = entry.getMovement() != null ? entry.getMovement() : new RankMovement();
+            ps.setObject(1, movement.getPreviousRanking());
+            ps.setObject(2, movement.getRankDelta());
+            ps.setObject(3, movement.getPeakRanking());
+            ps.setObject(4, movement.getWeeksOnChart());
+            ps.setObject(5, movement.getNewEntry());
+            ps.setObject(6, movement.getReEntry());
+            ps.setLong(7, entry.getId());
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.jpopranker.chart.repository;
+
+import com.example.jpopranker.chart.dto.response.ChartEntryResponseDto;
+import com.example.jpopranker.chart.entity.ChartEntry;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChartEntryRepository extends JpaRepository<ChartEntry, Long> {
+
+    // 차트 X의 D일자 순위 (uk_chart_entry_chart_date_rank 인덱스)
+    @Query("SELECT new com.example.jpopranker.chart.dto.response.ChartEntryResponseDto("
+        + "e.chartName, e.chartDate, e.ranking, s.id, s.title, s.artist, "
+        + "e.movement.previousRanking, e.movement.rankDelta, e.movement.peakRanking, e.movement.weeksOnChart, "
+        + "e.movement.newEntry, e.movement.reEntry) "
+        + "FROM ChartEntry e JOIN SongIdentity s ON s.id = e.songIdentityId "
+        + "WHERE e.chartName = :chartName AND e.chartDate = :chartDate "
+        + "ORDER BY e.ranking")
+    List<ChartEntryResponseDto> findChart(@Param("chartName") String chartName,
+        @Param("chartDate") LocalDate chartDate);
+
+    // 곡 S의 차트 이력 (idx_chart_entry_song_history 인덱스)
+    @Query("SELECT new com.example.jpopranker.chart.dto.response.ChartEntryResponseDto("
+        + "e.chartName, e.chartDate, e.ranking, s.id, s.title, s.artist, "
+        + "e.movement.previousRanking, e.movement.rankDelta, e.movement.peakRanking, e.movement.weeksOnChart, "
+        + "e.movement.newEntry, e.movement.reEntry) "
+        + "FROM ChartEntry e JOIN SongIdentity s ON s.id = e.songIdentityId "
+        + "WHERE e.songIdentityId = :songId "
+        + "ORDER BY e.chartName, e.chartDate")
+    List<ChartEntryResponseDto> findSongHistory(@Param("songId") Long songId);
+
+    List<ChartEntry> findBySnapshotId(Long snapshotId);
+
+    // 곡들이 D일자 이전에 차트에 오른 기록 (최신 날짜부터, 재진입 판정용)
+    @Query("SELECT e FROM ChartEntry e WHERE e.chartName = :chartName AND e.songIdentityId IN :songIds "
+        + "AND e.chartDate < :chartDate ORDER BY e.chartDate DESC")
+    List<ChartEntry> findEntriesBefore(@Param("chartName") String chartName,
+        @Param("songIds") Collection<Long> songIds, @Param("chartDate") LocalDate chartDate);
+
+    // 곡들의 차트 X 전체 기록 (곡별 날짜순, 통계 재계산용 - 엔티티 대신 값만 읽음)
+    @Query("SELECT e.songIdentityId AS songIdentityId, e.chartDate AS chartDate, e.ranking AS ranking "
+        + "FROM ChartEntry e WHERE e.chartName = :chartName AND e.songIdentityId IN :songIds "
+        + "ORDER BY e.songIdentityId, e.chartDate")
+    List<SongEntry> findSongEntries(@Param("chartName") String chartName,
+        @Param("songIds") Collection<Long> songIds);
+
+    // 차트 X에 오른 적이 있는 곡 ID
+    @Query("SELECT DISTINCT e.songIdentityId FROM ChartEntry e WHERE e.chartName = :chartName")
+    List<Long> findSongIds(@Param("chartName") String chartName);
+
+    // 차트 X의 곡 x 연도별 엔트리 수 (아티스트 통계 재계산용)
+    @Query("SELECT e.songIdentityId AS songIdentityId, YEAR(e.chartDate) AS chartYear, COUNT(e) AS entryCount, "
+        + "SUM(CASE WHEN e.ranking = 1 THEN 1 ELSE 0 END) AS numberOneCount, "
+        + "SUM(CASE WHEN e.ranking <= 10 THEN 1 ELSE 0 END) AS top10Count "
+        + "FROM ChartEntry e WHERE e.chartName = :chartName "
+        + "GROUP BY e.songIdentityId, YEAR(e.chartDate)")
+    List<SongYearTally> findSongYearTallies(@Param("chartName") String chartName);
+
+    @Modifying
+    @Query("DELETE FROM ChartEntry e WHERE e.snapshotId = :snapshotId")
+    int deleteBySnapshotId(@Param("snapshotId") Long snapshotId);
+
+    interface SongEntry {
+
+        Long getSongIdentityId();
+
+        LocalDate getChartDate();
+
+        Integer getRanking();
+    }
+
+    interface SongYearTally {
+
+        Long getSongIdentityId();
+
+        Integer getChartYear();
+
+        Long getEntryCount();
+
+        Long getNumberOneCount();
+
+        Long getTop10Count();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.jpopranker.chart.repository;
+
+import com.example.jpopranker.chart.entity.ChartSnapshot;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChartSnapshotRepository extends JpaRepository<ChartSnapshot, Long> {
+
+    Optional<ChartSnapshot> findByChartNameAndChartDate(String chartName, LocalDate chartDate);
+
+    // D일자 직전 스냅샷
+    Optional<ChartSnapshot> findFirstByChartNameAndChartDateBeforeOrderByChartDateDesc(String chartName,
+        LocalDate chartDate);
+
+    // D일자보다 나중 스냅샷이 있는지 (과거 날짜를 채워 넣는 경우)
+    boolean existsByChartNameAndChartDateAfter(String chartName, LocalDate chartDate);
+
+    // D일자 이후 스냅샷 (오래된 날짜부터)
+    List<ChartSnapshot> findByChartNameAndChartDateAfterOrderByChartDateAsc(String chartName, LocalDate chartDate);
+
+    // 스냅샷이 있는 차트 이름
+    @Query("SELECT DISTINCT s.chartName FROM ChartSnapshot s")
+    List<String> findChartNames();
+
+    // 차트의 스냅샷 목록 (최신 날짜부터)
+    List<ChartSnapshot> findByChartNameOrderByChartDateDesc(String chartName);
+}
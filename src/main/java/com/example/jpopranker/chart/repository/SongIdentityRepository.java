@@ -0,0 +1,15 @@
+package com.example.jpopranker.chart.repository;
+
+import com.example.jpopranker.chart.entity.SongIdentity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SongIdentityRepository extends JpaRepository<SongIdentity, Long> {
+
+    List<SongIdentity> findByTitleIn(Collection<String> titles);
+
+    List<SongIdentity> findByNormalizedKeyIn(Collection<String> normalizedKeys);
+}
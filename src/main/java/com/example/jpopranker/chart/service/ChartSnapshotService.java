@@ -0,0 +1,296 @@
+package com.example.jpopranker.chart.service;
+
+import com.example.jpopranker.chart.dto.response.ChartEntryResponseDto;
+import com.example.jpopranker.chart.dto.response.ChartSnapshotResponseDto;
+import com.example.jpopranker.chart.entity.ChartEntry;
+import com.example.jpopranker.chart.entity.ChartSnapshot;
+import com.example.jpopranker.chart.event.ChartSnapshotRecordedEvent;
+import com.example.jpopranker.chart.identity.SongIdentityIndex;
+import com.example.jpopranker.chart.repository.ChartBatchRepository;
+import com.example.jpopranker.chart.repository.ChartEntryRepository;
+import com.example.jpopranker.chart.repository.ChartSnapshotRepository;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import com.example.jpopranker.song.entity.RankMovement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChartSnapshotService {
+
+    private final ChartSnapshotRepository chartSnapshotRepository;
+    private final ChartEntryRepository chartEntryRepository;
+    private final ChartBatchRepository chartBatchRepository;
+    private final SongIdentityIndex songIdentityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 크롤링 결과를 차트+날짜 스냅샷으로 저장 (같은 날짜를 다시 크롤링하면 엔트리를 교체)
+    // 순위 변동도 여기서 한번만 계산해서 엔트리에 같이 저장하고, "제목|아티스트" -> 변동으로 반환
+    @Transactional
+    public Map<String, RankMovement> recordSnapshot(String chartName, LocalDate chartDate,
+        List<SongRequestDto> songs) {
+        Map<String, Long> identityIds = songIdentityIndex.resolveAll(songs);
+        Map<Long, Integer> currentRankings = new HashMap<>();
+        for (SongRequestDto song : songs) {
+            Long songIdentityId = identityIds.get(identityKey(song.getTitle(), song.getArtist()));
+            currentRankings.merge(songIdentityId, song.getRanking(), Math::min);
+        }
+        Map<Long, RankMovement> movements = computeMovements(chartName, chartDate, currentRankings,
+            findPreviousEntries(chartName, chartDate), Map.of());
+
+        ChartSnapshot existing = chartSnapshotRepository.findByChartNameAndChartDate(chartName, chartDate)
+            .orElse(null);
+        List<ChartEntry> removedEntries = List.of();
+        if (existing != null) {
+            removedEntries = chartEntryRepository.findBySnapshotId(existing.getId());
+            int deletedCount = chartEntryRepository.deleteBySnapshotId(existing.getId());
+            log.info("{} {} 스냅샷 재작성 (기존 엔트리 {}개 삭제)", chartName, chartDate, deletedCount);
+        }
+
+        // 엔트리 수는 중복을 뺀 뒤의 값으로 저장
+        List<SongRequestDto> uniqueSongs = new ArrayList<>(songs.size());
+        Set<String> seenEntries = new HashSet<>();
+        for (SongRequestDto song : songs) {
+            Long songIdentityId = identityIds.get(identityKey(song.getTitle(), song.getArtist()));
+            if (seenEntries.add(song.getRanking() + "|" + songIdentityId)) {
+                uniqueSongs.add(song);
+            }
+            // 같은 순위에 같은 곡이 두 번 들어온 경우는 첫 번째 것만 사용
+        }
+
+        ChartSnapshot snapshot = chartSnapshotRepository.save(ChartSnapshot.builder()
+            .id(existing == null ? null : existing.getId())
+            .chartName(chartName)
+            .chartDate(chartDate)
+            .entryCount(uniqueSongs.size())
+            .crawledAt(LocalDateTime.now())
+            .build());
+
+        List<ChartEntry> entries = new ArrayList<>(uniqueSongs.size());
+        for (SongRequestDto song : uniqueSongs) {
+            Long songIdentityId = identityIds.get(identityKey(song.getTitle(), song.getArtist()));
+            entries.add(ChartEntry.builder()
+                .snapshotId(snapshot.getId())
+                .chartName(chartName)
+                .chartDate(chartDate)
+                .ranking(song.getRanking())
+                .songIdentityId(songIdentityId)
+                .movement(movements.get(songIdentityId))
+                .build());
+        }
+        chartBatchRepository.insertEntries(entries);
+        eventPublisher.publishEvent(new ChartSnapshotRecordedEvent(chartName, chartDate, removedEntries, entries));
+
+        log.info("{} {} 스냅샷 저장 - 엔트리 {}개", chartName, chartDate, entries.size());
+
+        Map<String, RankMovement> songMovements = new HashMap<>();
+        for (SongRequestDto song : songs) {
+            String key = identityKey(song.getTitle(), song.getArtist());
+            songMovements.putIfAbsent(key, movements.get(identityIds.get(key)));
+        }
+        return songMovements;
+    }
+
+    // 여러 날짜의 스냅샷을 한 트랜잭션으로 저장 (백필용)
+    // 순위 변동이 직전 스냅샷을 기준으로 계산되도록 날짜순으로 저장하고, 곡 ID는 전체를 먼저 한번에 등록
+    @Transactional
+    public int recordSnapshots(String chartName, SortedMap<LocalDate, List<SongRequestDto>> snapshots) {
+        songIdentityIndex.resolveAll(snapshots.values().stream().flatMap(List::stream).toList());
+        snapshots.forEach((chartDate, songs) -> recordSnapshot(chartName, chartDate, songs));
+        return snapshots.size();
+    }
+
+    // 백필/재파싱 배치 저장: 한 트랜잭션으로 저장하고, 실패하면 날짜별 트랜잭션으로 다시 저장
+    // 문제 있는 날짜만 failed에 추가하고 저장한 날짜 수를 반환 (작업 전체를 멈추지 않음)
+    public int recordSnapshotsIsolated(String chartName, SortedMap<LocalDate, List<SongRequestDto>> snapshots,
+        List<LocalDate> failed) {
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        int written = writeIsolated(chartName, snapshots, failed);
+        // 과거 날짜를 채우거나 고치면 그 뒤 스냅샷의 변동(주 수, 최고 순위, 재진입)도 달라짐
+        snapshots.keySet().stream()
+            .filter(chartDate -> !failed.contains(chartDate))
+            .findFirst()
+            .ifPresent(from -> {
+                try {
+                    int recomputed = transactionTemplate.execute(status -> recomputeMovementsAfter(chartName, from));
+                    if (recomputed > 0) {
+                        log.info("{} {} 이후 스냅샷 {}개 순위 변동 재계산", chartName, from, recomputed);
+                    }
+                } catch (Exception e) {
+                    log.warn("{} {} 이후 순위 변동 재계산 실패", chartName, from, e);
+                }
+            });
+        return written;
+    }
+
+    // 같은 빈 안의 호출이라 @Transactional이 적용되지 않으므로 트랜잭션 경계는 직접 지정
+    private int writeIsolated(String chartName, SortedMap<LocalDate, List<SongRequestDto>> snapshots,
+        List<LocalDate> failed) {
+        try {
+            return transactionTemplate.execute(status -> recordSnapshots(chartName, snapshots));
+        } catch (Exception e) {
+            log.warn("{} 차트 배치 저장 실패, 날짜별로 다시 저장: {}", chartName, e.getMessage());
+        }
+        int written = 0;
+        for (Map.Entry<LocalDate, List<SongRequestDto>> snapshot : snapshots.entrySet()) {
+            try {
+                transactionTemplate.executeWithoutResult(
+                    status -> recordSnapshot(chartName, snapshot.getKey(), snapshot.getValue()));
+                written++;
+            } catch (Exception e) {
+                log.warn("{} {} 스냅샷 저장 실패", chartName, snapshot.getKey(), e);
+                failed.add(snapshot.getKey());
+            }
+        }
+        return written;
+    }
+
+    // from 이후 스냅샷의 순위 변동을 날짜순으로 다시 계산해서 엔트리에 반영
+    // 엔트리는 JDBC로 고치므로 영속성 컨텍스트의 엔티티는 옛 값 그대로임
+    // -> 재계산한 구간의 직전/마지막 엔트리는 DB 대신 메모리에서 이어받음
+    private int recomputeMovementsAfter(String chartName, LocalDate from) {
+        List<ChartSnapshot> laterSnapshots =
+            chartSnapshotRepository.findByChartNameAndChartDateAfterOrderByChartDateAsc(chartName, from);
+        Map<Long, ChartEntry> previousEntries = null;
+        Map<Long, ChartEntry> recomputedEntries = new HashMap<>(); // 곡 ID -> 재계산한 가장 최근 엔트리
+        for (ChartSnapshot snapshot : laterSnapshots) {
+            List<ChartEntry> entries = chartEntryRepository.findBySnapshotId(snapshot.getId());
+            Map<Long, Integer> currentRankings = new HashMap<>();
+            for (ChartEntry entry : entries) {
+                currentRankings.merge(entry.getSongIdentityId(), entry.getRanking(), Math::min);
+            }
+            if (previousEntries == null) {
+                previousEntries = findPreviousEntries(chartName, snapshot.getChartDate()); // from 이하라 최신 값
+            }
+            Map<Long, RankMovement> movements = computeMovements(chartName, snapshot.getChartDate(),
+                currentRankings, previousEntries, recomputedEntries);
+
+            List<ChartEntry> updated = new ArrayList<>(entries.size());
+            for (ChartEntry entry : entries) {
+                updated.add(ChartEntry.builder()
+                    .id(entry.getId())
+                    .snapshotId(entry.getSnapshotId())
+                    .chartName(entry.getChartName())
+                    .chartDate(entry.getChartDate())
+                    .ranking(entry.getRanking())
+                    .songIdentityId(entry.getSongIdentityId())
+                    .movement(movements.get(entry.getSongIdentityId()))
+                    .build());
+            }
+            chartBatchRepository.updateEntryMovements(updated);
+
+            previousEntries = bestEntries(updated);
+            recomputedEntries.putAll(previousEntries);
+        }
+        return laterSnapshots.size();
+    }
+
+    // 스냅샷이 이미 있는 날짜들
+    public Set<LocalDate> findSnapshotDates(String chartName) {
+        return chartSnapshotRepository.findByChartNameOrderByChartDateDesc(chartName).stream()
+            .map(ChartSnapshot::getChartDate)
+            .collect(Collectors.toSet());
+    }
+
+    // D일자 직전 스냅샷의 엔트리 (곡 ID별로 가장 높은 순위)
+    private Map<Long, ChartEntry> findPreviousEntries(String chartName, LocalDate chartDate) {
+        return chartSnapshotRepository.findFirstByChartNameAndChartDateBeforeOrderByChartDateDesc(chartName, chartDate)
+            .map(previous -> bestEntries(chartEntryRepository.findBySnapshotId(previous.getId())))
+            .orElseGet(Map::of);
+    }
+
+    private static Map<Long, ChartEntry> bestEntries(List<ChartEntry> entries) {
+        Map<Long, ChartEntry> bestEntries = new HashMap<>();
+        for (ChartEntry entry : entries) {
+            bestEntries.merge(entry.getSongIdentityId(), entry, (a, b) -> a.getRanking() <= b.getRanking() ? a : b);
+        }
+        return bestEntries;
+    }
+
+    // 직전 스냅샷과 곡 ID로 해시 조인해서 순위 변동 계산
+    // 직전 스냅샷에 없는 곡은 recentEntries(재계산 중인 구간)에서 먼저 찾고, 나머지만 이전 기록을 한번에 조회해서 재진입 여부 판단
+    private Map<Long, RankMovement> computeMovements(String chartName, LocalDate chartDate,
+        Map<Long, Integer> currentRankings, Map<Long, ChartEntry> previousEntries,
+        Map<Long, ChartEntry> recentEntries) {
+        Set<Long> missing = new HashSet<>(currentRankings.keySet());
+        missing.removeAll(previousEntries.keySet());
+        Map<Long, ChartEntry> lastEntries = new HashMap<>();
+        for (Long songIdentityId : missing) {
+            ChartEntry recent = recentEntries.get(songIdentityId);
+            if (recent != null) {
+                lastEntries.put(songIdentityId, recent);
+            }
+        }
+        missing.removeAll(lastEntries.keySet());
+        if (!missing.isEmpty()) {
+            for (ChartEntry entry : chartEntryRepository.findEntriesBefore(chartName, missing, chartDate)) {
+                lastEntries.putIfAbsent(entry.getSongIdentityId(), entry); // 최신 날짜가 먼저 옴
+            }
+        }
+
+        Map<Long, RankMovement> movements = new HashMap<>();
+        currentRankings.forEach((songIdentityId, ranking) -> {
+            ChartEntry previous = previousEntries.get(songIdentityId);
+            ChartEntry last = lastEntries.get(songIdentityId);
+            RankMovement movement;
+            if (previous != null) {
+                RankMovement previousMovement = movementOf(previous);
+                movement = RankMovement.stay(ranking, previous.getRanking(),
+                    previousMovement.getPeakRanking(), previousMovement.getWeeksOnChart());
+            } else if (last != null) {
+                RankMovement lastMovement = movementOf(last);
+                movement = RankMovement.reEntry(ranking, last.getRanking(),
+                    lastMovement.getPeakRanking(), lastMovement.getWeeksOnChart());
+            } else {
+                movement = RankMovement.debut(ranking);
+            }
+            movements.put(songIdentityId, movement);
+        });
+        return movements;
+    }
+
+    // 변동 계산 이전에 저장된 엔트리는 값이 비어 있음
+    private static RankMovement movementOf(ChartEntry entry) {
+        return entry.getMovement() != null ? entry.getMovement() : new RankMovement();
+    }
+
+    // 차트의 스냅샷 목록
+    public List<ChartSnapshotResponseDto> getSnapshots(String chartName) {
+        return chartSnapshotRepository.findByChartNameOrderByChartDateDesc(chartName).stream()
+            .map(ChartSnapshotResponseDto::from)
+            .toList();
+    }
+
+    // 차트 X의 D일자 순위
+    public List<ChartEntryResponseDto> getChart(String chartName, LocalDate chartDate) {
+        return chartEntryRepository.findChart(chartName, chartDate);
+    }
+
+    // 곡 S의 차트 이력
+    public List<ChartEntryResponseDto> getSongHistory(Long songId) {
+        return chartEntryRepository.findSongHistory(songId);
+    }
+
+    // 원본 "제목|아티스트" (SongIdentityIndex.resolveAll 결과의 키)
+    private static String identityKey(String title, String artist) {
+        return title + "|" + artist;
+    }
+}
@@ -17,6 +17,8 @@ public class CorsConfig {
         config.addAllowedOriginPattern("http://localhost:3000"); // React 개발 서버
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        config.addExposedHeader("ETag"); // 조건부 요청용
+        config.addExposedHeader("X-Chart-Version"); // 변경분 조회용
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
@@ -0,0 +1,97 @@
+package com.example.jpopranker.crawler.archive;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.entity.RawPage;
+import com.example.jpopranker.crawler.repository.RawPageRepository;
+import com.example.jpopranker.crawler.source.FetchedPage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 가져온 차트 페이지 원본 보관소
+// 본문은 내용 해시를 이름으로 gzip 파일 하나로 저장하고 (같은 페이지는 한 번만), 차트/날짜 색인은 DB에 기록
+// 파서를 고친 뒤 사이트에 다시 요청하지 않고 보관된 페이지로 재파싱할 수 있음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RawPageArchive {
+
+    private final CrawlerProperties crawlerProperties;
+    private final RawPageRepository rawPageRepository;
+
+    // 보관 실패는 크롤링 실패로 이어지지 않도록 로그만 남김
+    public void store(String chartName, LocalDate chartDate, FetchedPage page) {
+        if (!crawlerProperties.getArchive().isEnabled() || page.getHtml() == null) {
+            return;
+        }
+        try {
+            byte[] body = page.getHtml().getBytes(StandardCharsets.UTF_8);
+            String contentHash = sha256(body);
+            writeIfAbsent(contentHash, body);
+            if (rawPageRepository.findByChartNameAndChartDateAndContentHash(chartName, chartDate, contentHash)
+                .isEmpty()) {
+                rawPageRepository.save(RawPage.builder()
+                    .chartName(chartName)
+                    .chartDate(chartDate)
+                    .contentHash(contentHash)
+                    .url(page.getUrl())
+                    .sizeBytes(body.length)
+                    .fetchedAt(LocalDateTime.now())
+                    .build());
+            }
+        } catch (Exception e) {
+            log.warn("{} {} 원본 페이지 보관 실패", chartName, chartDate, e);
+        }
+    }
+
+    public String load(String contentHash) {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(pathOf(contentHash)))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관된 페이지를 읽을 수 없음: " + contentHash, e);
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 이름을 바꿔서 동시에 같은 페이지를 저장해도 깨진 파일이 남지 않게 함
+    private void writeIfAbsent(String contentHash, byte[] body) throws IOException {
+        Path path = pathOf(contentHash);
+        if (Files.exists(path)) {
+            return;
+        }
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), contentHash, ".tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            out.write(body);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 해시 앞 두 글자로 디렉터리를 나눔
+    private Path pathOf(String contentHash) {
+        return Path.of(crawlerProperties.getArchive().getDirectory(), contentHash.substring(0, 2),
+            contentHash + ".html.gz");
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
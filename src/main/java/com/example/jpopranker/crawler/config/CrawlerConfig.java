@@ -1,19 +1,47 @@
 package com.example.jpopranker.crawler.config;
 
+import com.example.jpopranker.crawler.http.HostRateLimiter;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration // 스프링 설정 클래스
 // 스프링이 시작할 때 이 클래스를 읽어서 Bean들을 등록함
+@EnableConfigurationProperties(CrawlerProperties.class)
 public class CrawlerConfig {
 
     @Bean // 스프링 컨테이너가 관리할 객체를 만드는 메서드
     // WebClient는 HTTP 요청을 보내는 도구
     // 웹사이트에 접속하여 HTML을 가져올 때 사용
     // Jsoup.connect() 대신 더 고급 기능 제공
-    public WebClient webClient() {
+    public WebClient webClient(CrawlerProperties crawlerProperties) {
+        CrawlerProperties.Http http = crawlerProperties.getHttp();
+
+        // 모든 차트가 공유하는 커넥션 풀 (같은 호스트는 커넥션을 재사용)
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("crawler")
+            .maxConnections(http.getMaxConnections())
+            .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+            .maxIdleTime(http.getMaxIdleTime())
+            .evictInBackground(http.getMaxIdleTime())
+            .build();
+
+        // 연결/응답 제한 시간이 없으면 멈춘 사이트 하나가 크롤링 전체를 붙잡고 있게 됨
+        // 응답 제한 시간은 요청마다만 적용됨 (풀에서 쉬는 커넥션은 maxIdleTime으로 정리)
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+            .responseTimeout(http.getResponseTimeout())
+            .followRedirect(true)
+            .compress(true);
+
         return WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            // 호스트별 요청 속도 제한 (재시도 요청도 포함)
+            .filter(new HostRateLimiter(http.getRequestsPerSecond(), http.getBurst()))
             // User-Agent는 브라우저 정보를 속이는 헤더
             .defaultHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
             .build();
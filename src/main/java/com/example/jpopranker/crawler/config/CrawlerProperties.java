@@ -0,0 +1,157 @@
+package com.example.jpopranker.crawler.config;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Period;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.properties의 crawler.* 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crawler")
+public class CrawlerProperties {
+
+    // 정기 크롤링 사용 여부
+    private boolean autoEnabled = true;
+
+    // 차트별 설정 (키: 차트 ID)
+    private Map<String, Chart> charts = new LinkedHashMap<>();
+
+    private final Engine engine = new Engine();
+
+    private final Scheduler scheduler = new Scheduler();
+
+    private final Backfill backfill = new Backfill();
+
+    private final Http http = new Http();
+
+    private final Archive archive = new Archive();
+
+    // 설정이 없는 차트는 기본값 사용
+    public Chart getChart(String chartId) {
+        return charts.getOrDefault(chartId, new Chart());
+    }
+
+    @Getter
+    @Setter
+    public static class Chart {
+
+        private boolean enabled = true;
+
+        // 차트 페이지 URL ({date} 같은 템플릿은 ChartSource가 치환)
+        private String url;
+
+        // 정기 크롤링 cron (비어 있으면 수동 크롤링만)
+        private String cron;
+
+        // 값이 클수록 먼저 크롤링
+        private int priority = 0;
+
+        // 저장할 최대 순위
+        private int topN = 50;
+
+        // 응답을 받으면서 파싱하고 top-N에서 읽기를 멈추는 스트리밍 추출 사용 여부
+        private boolean streaming = false;
+
+        // 과거 차트 페이지 URL ({date}, {year}, {month}, {day} 치환, 비어 있으면 백필 불가)
+        private String archiveUrl;
+
+        // 차트 발표 주기 (백필할 날짜 간격)
+        private Period archiveInterval = Period.ofWeeks(1);
+
+        // 주간 차트의 기준 요일 (백필 시작 날짜를 이 요일로 맞춤)
+        private DayOfWeek weekStart;
+    }
+
+    @Getter
+    @Setter
+    public static class Engine {
+
+        // 동시에 크롤링할 최대 차트 수
+        private int maxConcurrency = 8;
+
+        // 전체 크롤링 제한 시간 (넘으면 진행 중인 차트는 취소)
+        private Duration timeout = Duration.ofMinutes(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+
+        // 공유 커넥션 풀 크기
+        private int maxConnections = 50;
+
+        // 풀에서 커넥션을 기다리는 최대 시간
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+        // 유휴 커넥션 정리 시간 (사이트 쪽에서 먼저 끊은 커넥션을 재사용하지 않도록)
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        // 응답 데이터 사이의 최대 대기 시간 (멈춘 사이트 감지)
+        private Duration responseTimeout = Duration.ofSeconds(15);
+
+        // 재시도를 포함하지 않은 요청 하나의 전체 제한 시간
+        private Duration requestTimeout = Duration.ofSeconds(30);
+
+        // 호스트별 초당 요청 수와 한번에 몰아서 보낼 수 있는 요청 수
+        private double requestsPerSecond = 2.0;
+        private int burst = 4;
+
+        // 재시도 (네트워크 오류, 타임아웃, 5xx, 429만)
+        private int maxRetries = 2;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+
+        // 연속 실패가 이 횟수가 되면 일정 시간 동안 요청하지 않고 바로 실패
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+
+        // 가져온 페이지 원본 보관 여부
+        private boolean enabled = true;
+
+        // 원본 페이지 저장 위치 (내용 해시별 gzip 파일)
+        private String directory = "data/raw-pages";
+
+        // 재파싱 동시 처리 수 (CPU 작업이므로 기본값은 코어 수)
+        private int reparseConcurrency = Runtime.getRuntime().availableProcessors();
+
+        // 재파싱 결과를 한 트랜잭션에 저장할 스냅샷 수
+        private int reparseBatchSize = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Backfill {
+
+        // 동시에 가져올 과거 차트 페이지 수
+        private int maxConcurrency = 4;
+
+        // 한 트랜잭션에 저장할 스냅샷 수 (저장 후 진행 위치를 기록)
+        private int batchSize = 10;
+
+        // 한 번에 요청할 수 있는 최대 기간 수
+        private int maxPeriods = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Scheduler {
+
+        // 정기 크롤링을 동시에 실행할 최대 차트 수
+        private int parallelism = 4;
+
+        // 같은 시각에 몰린 크롤링을 분산시키기 위한 최대 랜덤 지연
+        private Duration maxJitter = Duration.ofSeconds(30);
+    }
+}
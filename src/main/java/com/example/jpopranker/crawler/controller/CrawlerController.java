@@ -1,15 +1,36 @@
 package com.example.jpopranker.crawler.controller;
 
+import com.example.jpopranker.crawler.dto.BackfillJobResponseDto;
+import com.example.jpopranker.crawler.dto.BackfillRequestDto;
+import com.example.jpopranker.crawler.dto.CrawlJobResponseDto;
+import com.example.jpopranker.crawler.dto.ReparseJobResponseDto;
+import com.example.jpopranker.crawler.dto.ReparseRequestDto;
+import com.example.jpopranker.crawler.parser.ParserStrategies;
+import com.example.jpopranker.crawler.service.BackfillService;
+import com.example.jpopranker.crawler.service.CrawlJobService;
 import com.example.jpopranker.crawler.service.CrawlerService;
+import com.example.jpopranker.crawler.service.ReparseService;
+import com.example.jpopranker.crawler.source.BillboardJapanChartSource;
+import com.example.jpopranker.crawler.source.ChartSource;
+import com.example.jpopranker.crawler.source.ChartSourceRegistry;
+import com.example.jpopranker.crawler.source.OriconChartSource;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -19,6 +40,10 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Crawler", description = "음악 차트 크롤링 API")
 public class CrawlerController {
     private final CrawlerService crawlerService;
+    private final CrawlJobService crawlJobService;
+    private final BackfillService backfillService;
+    private final ReparseService reparseService;
+    private final ChartSourceRegistry chartSourceRegistry;
 
     @Operation(summary = "테스트 크롤링", description = "샘플 데이터로 크롤링 기능을 테스트합니다.")
     @ApiResponses(value = {
@@ -32,41 +57,130 @@ public class CrawlerController {
         return "테스트 크롤링 완료! 데이터를 확인해보세요.";
     }
 
-    @Operation(summary = "Billboard Japan 크롤링", description = "Billboard Japan Hot 100 차트를 크롤링합니다.")
+    @Operation(summary = "Billboard Japan 크롤링", description = "Billboard Japan Hot 100 차트 크롤링 작업을 등록합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "크롤링 성공"),
-            @ApiResponse(responseCode = "500", description = "크롤링 실패")
+            @ApiResponse(responseCode = "202", description = "작업 등록 (진행 상태는 /crawler/jobs/{jobId}로 확인)")
     })
     @PostMapping("/billboard-japan")
-    public String crawlBillboardJapan() {
-        log.info("Billboard Japan 크롤링 시작");
-        crawlerService.crawlBillboardJapan();
-        return "Billboard Japan 크롤링 완료!";
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CrawlJobResponseDto crawlBillboardJapan() {
+        log.info("Billboard Japan 크롤링 요청");
+        return CrawlJobResponseDto.from(crawlJobService.submit(List.of(BillboardJapanChartSource.CHART_ID)));
     }
 
-    @Operation(summary = "Oricon 크롤링", description = "Oricon 주간 합산 싱글 차트를 크롤링합니다.")
+    @Operation(summary = "Oricon 크롤링", description = "Oricon 주간 합산 싱글 차트 크롤링 작업을 등록합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "크롤링 성공"),
-            @ApiResponse(responseCode = "500", description = "크롤링 실패")
+            @ApiResponse(responseCode = "202", description = "작업 등록 (진행 상태는 /crawler/jobs/{jobId}로 확인)")
     })
     @PostMapping("/oricon")
-    public String crawlOricon() {
-        log.info("Oricon 크롤링 시작");
-        crawlerService.crawlOriconChart();
-        return "Oricon 크롤링 완료!";
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CrawlJobResponseDto crawlOricon() {
+        log.info("Oricon 크롤링 요청");
+        return CrawlJobResponseDto.from(crawlJobService.submit(List.of(OriconChartSource.CHART_ID)));
     }
 
-    @Operation(summary = "전체 차트 크롤링", description = "모든 지원되는 차트를 한번에 크롤링합니다.")
+    @Operation(summary = "차트 크롤링", description = "등록된 차트 소스 중 하나의 크롤링 작업을 등록합니다.")
+    @Parameter(name = "chartId", description = "차트 ID (crawler.charts.<id>)", example = "billboard-japan")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "전체 크롤링 성공"),
-            @ApiResponse(responseCode = "500", description = "크롤링 실패")
+            @ApiResponse(responseCode = "202", description = "작업 등록"),
+            @ApiResponse(responseCode = "500", description = "등록되지 않은 차트")
+    })
+    @PostMapping("/charts/{chartId}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CrawlJobResponseDto crawlChart(@PathVariable String chartId) {
+        log.info("{} 크롤링 요청", chartId);
+        return CrawlJobResponseDto.from(crawlJobService.submit(List.of(chartId)));
+    }
+
+    @Operation(summary = "전체 차트 크롤링", description = "모든 지원되는 차트를 동시에 크롤링하는 작업을 등록합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 등록 (진행 상태는 /crawler/jobs/{jobId}로 확인)")
     })
     @PostMapping("/all")
-    public String crawlAllCharts() {
-        log.info("전체 차트 크롤링 시작");
-        crawlerService.crawlBillboardJapan();
-        crawlerService.crawlOriconChart();
-        return "전체 차트 크롤링 완료!";
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CrawlJobResponseDto crawlAllCharts() {
+        log.info("전체 차트 크롤링 요청");
+        return CrawlJobResponseDto.from(crawlJobService.submitAll());
+    }
+
+    @Operation(summary = "크롤링 작업 조회", description = "크롤링 작업의 진행 상태와 차트별 결과를 조회합니다.")
+    @Parameter(name = "jobId", description = "작업 ID", example = "3f2b8c1e-...")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 작업")
+    })
+    @GetMapping("/jobs/{jobId}")
+    public CrawlJobResponseDto getJob(@PathVariable String jobId) {
+        return CrawlJobResponseDto.from(crawlJobService.getJob(jobId));
+    }
+
+    @Operation(summary = "과거 차트 백필", description = "차트와 기간을 받아 기간 안의 과거 차트를 모두 가져와 스냅샷으로 저장하는 작업을 등록합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 등록 (진행 상태는 /crawler/backfill/{jobId}로 확인)"),
+            @ApiResponse(responseCode = "500", description = "백필을 지원하지 않는 차트 또는 잘못된 기간")
+    })
+    @PostMapping("/backfill")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BackfillJobResponseDto backfill(@RequestBody BackfillRequestDto request) {
+        log.info("{} 백필 요청 ({} ~ {})", request.getChartName(), request.getFrom(), request.getTo());
+        return BackfillJobResponseDto.from(backfillService.submit(request));
+    }
+
+    @Operation(summary = "백필 작업 목록", description = "최근 백필 작업 20개를 조회합니다.")
+    @GetMapping("/backfill")
+    public List<BackfillJobResponseDto> getBackfillJobs() {
+        return backfillService.getRecentJobs().stream()
+            .map(BackfillJobResponseDto::from)
+            .toList();
+    }
+
+    @Operation(summary = "백필 작업 조회", description = "백필 작업의 진행 위치와 결과를 조회합니다.")
+    @Parameter(name = "jobId", description = "백필 작업 ID", example = "1")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 작업")
+    })
+    @GetMapping("/backfill/{jobId}")
+    public BackfillJobResponseDto getBackfillJob(@PathVariable Long jobId) {
+        return BackfillJobResponseDto.from(backfillService.getJob(jobId));
+    }
+
+    @Operation(summary = "백필 작업 재시작", description = "중단되었거나 일부 실패한 백필 작업을 진행 위치부터 다시 시작합니다. 실패한 날짜도 다시 시도합니다.")
+    @Parameter(name = "jobId", description = "백필 작업 ID", example = "1")
+    @PostMapping("/backfill/{jobId}/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BackfillJobResponseDto resumeBackfill(@PathVariable Long jobId) {
+        return BackfillJobResponseDto.from(backfillService.resume(jobId));
+    }
+
+    @Operation(summary = "보관 페이지 재파싱", description = "보관된 원본 페이지를 현재 파서로 다시 파싱해서 결과가 달라진 날짜의 스냅샷을 다시 저장합니다. 사이트에는 요청하지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 등록 (진행 상태는 /crawler/reparse/{jobId}로 확인)"),
+            @ApiResponse(responseCode = "500", description = "등록되지 않은 차트, 잘못된 기간 또는 보관된 페이지 없음")
+    })
+    @PostMapping("/reparse")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ReparseJobResponseDto reparse(@RequestBody ReparseRequestDto request) {
+        log.info("{} 재파싱 요청 ({} ~ {})", request.getChartName(), request.getFrom(), request.getTo());
+        return ReparseJobResponseDto.from(reparseService.submit(request));
+    }
+
+    @Operation(summary = "재파싱 작업 조회", description = "재파싱 작업의 진행 상태와 결과를 조회합니다.")
+    @Parameter(name = "jobId", description = "작업 ID", example = "3f2b8c1e-...")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 작업")
+    })
+    @GetMapping("/reparse/{jobId}")
+    public ReparseJobResponseDto getReparseJob(@PathVariable String jobId) {
+        return ReparseJobResponseDto.from(reparseService.getJob(jobId));
+    }
+
+    @Operation(summary = "행 추출 방법 통계", description = "차트별 행 추출 방법의 시도/성공 횟수와 지금 먼저 시도하는 방법을 조회합니다.")
+    @GetMapping("/parsers")
+    public Map<String, List<ParserStrategies.Stats>> getParserStats() {
+        return chartSourceRegistry.getEnabledSources().stream()
+            .collect(Collectors.toMap(ChartSource::getChartId, ChartSource::getParserStats));
     }
 
     @Operation(summary = "크롤링 서비스 상태 확인", description = "크롤링 서비스가 정상 작동하는지 확인합니다.")
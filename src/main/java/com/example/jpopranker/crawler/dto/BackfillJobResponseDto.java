@@ -0,0 +1,67 @@
+package com.example.jpopranker.crawler.dto;
+
+import com.example.jpopranker.crawler.entity.BackfillJob;
+import com.example.jpopranker.crawler.entity.BackfillStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillJobResponseDto {
+
+    private Long jobId;
+
+    private String chartName;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private BackfillStatus status;
+
+    private boolean finished;
+
+    // 이 날짜부터 이어서 진행 (끝났으면 null)
+    private LocalDate nextDate;
+
+    private int totalPeriods;
+
+    private int writtenCount;
+
+    // 이미 스냅샷이 있어서 건너뛴 날짜 수
+    private int skippedCount;
+
+    private List<LocalDate> failedDates;
+
+    private String error;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public static BackfillJobResponseDto from(BackfillJob job) {
+        return BackfillJobResponseDto.builder()
+            .jobId(job.getId())
+            .chartName(job.getChartName())
+            .from(job.getFromDate())
+            .to(job.getToDate())
+            .status(job.getStatus())
+            .finished(job.isFinished())
+            .nextDate(job.getNextDate())
+            .totalPeriods(job.getTotalPeriods())
+            .writtenCount(job.getWrittenCount())
+            .skippedCount(job.getSkippedCount())
+            .failedDates(job.getFailedDateList())
+            .error(job.getError())
+            .createdAt(job.getCreatedAt())
+            .updatedAt(job.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.jpopranker.crawler.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillRequestDto {
+
+    private String chartName;
+    private LocalDate from;
+    private LocalDate to;
+    // 이미 스냅샷이 있는 날짜도 다시 저장할지
+    private boolean overwrite;
+
+}
@@ -0,0 +1,67 @@
+package com.example.jpopranker.crawler.dto;
+
+import com.example.jpopranker.crawler.job.CrawlJob;
+import com.example.jpopranker.crawler.job.CrawlJobStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlJobResponseDto {
+
+    private String jobId;
+
+    private List<String> chartIds;
+
+    private CrawlJobStatus status;
+
+    private boolean finished;
+
+    private int totalCharts;
+
+    private int completedCharts;
+
+    private int savedCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+
+    private Long elapsedMillis;
+
+    private List<CrawlResult> results;
+
+    private Map<String, Long> chartElapsedMillis;
+
+    private String error;
+
+    // 진행 중인 작업에서도 일관된 값을 읽도록 작업 객체를 잠그고 변환
+    public static CrawlJobResponseDto from(CrawlJob job) {
+        synchronized (job) {
+            return CrawlJobResponseDto.builder()
+                .jobId(job.getJobId())
+                .chartIds(job.getChartIds())
+                .status(job.getStatus())
+                .finished(job.isFinished())
+                .totalCharts(job.getChartIds().size())
+                .completedCharts(job.getResults().size())
+                .savedCount(job.getSavedCount())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .elapsedMillis(job.getElapsedMillis())
+                .results(new ArrayList<>(job.getResults().values()))
+                .chartElapsedMillis(new LinkedHashMap<>(job.getChartElapsedMillis()))
+                .error(job.getError())
+                .build();
+        }
+    }
+}
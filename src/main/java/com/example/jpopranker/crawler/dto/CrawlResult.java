@@ -0,0 +1,48 @@
+package com.example.jpopranker.crawler.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 차트 하나의 크롤링 결과
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CrawlResult {
+
+    public enum Status {
+        UPDATED,        // 새 데이터 저장
+        NOT_MODIFIED,   // 서버가 304 응답
+        UNCHANGED,      // 응답은 왔지만 차트 내용이 같음
+        FAILED
+    }
+
+    private final String chartId;
+
+    private final Status status;
+
+    private final int savedCount;
+
+    private final String message;
+
+    public static CrawlResult updated(String chartId, int savedCount) {
+        return new CrawlResult(chartId, Status.UPDATED, savedCount, null);
+    }
+
+    public static CrawlResult notModified(String chartId) {
+        return new CrawlResult(chartId, Status.NOT_MODIFIED, 0, null);
+    }
+
+    public static CrawlResult unchanged(String chartId) {
+        return new CrawlResult(chartId, Status.UNCHANGED, 0, null);
+    }
+
+    public static CrawlResult failed(String chartId, String message) {
+        return new CrawlResult(chartId, Status.FAILED, 0, message);
+    }
+
+    public boolean isUpdated() {
+        return status == Status.UPDATED;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.jpopranker.crawler.dto;
+
+import com.example.jpopranker.crawler.job.CrawlJobStatus;
+import com.example.jpopranker.crawler.job.ReparseJob;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReparseJobResponseDto {
+
+    private String jobId;
+
+    private String chartName;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private CrawlJobStatus status;
+
+    private boolean finished;
+
+    private int totalPages;
+
+    private int rewrittenCount;
+
+    private int unchangedCount;
+
+    private List<LocalDate> failedDates;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+
+    // 진행 중인 작업에서도 일관된 값을 읽도록 작업 객체를 잠그고 변환
+    public static ReparseJobResponseDto from(ReparseJob job) {
+        synchronized (job) {
+            return ReparseJobResponseDto.builder()
+                .jobId(job.getJobId())
+                .chartName(job.getChartName())
+                .from(job.getFrom())
+                .to(job.getTo())
+                .status(job.getStatus())
+                .finished(job.isFinished())
+                .totalPages(job.getTotalPages())
+                .rewrittenCount(job.getRewrittenCount())
+                .unchangedCount(job.getUnchangedCount())
+                .failedDates(List.copyOf(job.getFailedDates()))
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.jpopranker.crawler.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReparseRequestDto {
+
+    private String chartName;
+    // 비어 있으면 보관된 전체 기간
+    private LocalDate from;
+    private LocalDate to;
+
+}
@@ -0,0 +1,132 @@
+package com.example.jpopranker.crawler.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 과거 차트 백필 작업과 진행 위치
+// 배치 하나를 저장할 때마다 nextDate를 기록하므로 중단되어도 그 날짜부터 이어서 진행
+@Getter
+@Entity
+@Table(name = "backfill_jobs")
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class BackfillJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chart_name", nullable = false)
+    private String chartName;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    // 이 날짜 이전은 모두 처리됨 (null이면 끝까지 처리됨)
+    @Column(name = "next_date")
+    private LocalDate nextDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BackfillStatus status;
+
+    // 이미 스냅샷이 있는 날짜도 다시 저장할지
+    @Column(nullable = false)
+    private boolean overwrite;
+
+    @Column(name = "total_periods", nullable = false)
+    private int totalPeriods;
+
+    @Column(name = "written_count", nullable = false)
+    private int writtenCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private int skippedCount;
+
+    // 가져오기/파싱에 실패한 날짜 (쉼표로 구분)
+    @Lob
+    @Column(name = "failed_dates")
+    private String failedDates;
+
+    private String error;
+
+    @Column(name = "created_at")
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public List<LocalDate> getFailedDateList() {
+        if (failedDates == null || failedDates.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(failedDates.split(",")).map(LocalDate::parse).toList();
+    }
+
+    public boolean isFinished() {
+        return status != BackfillStatus.RUNNING;
+    }
+
+    // 배치 하나 저장 후 진행 위치 기록
+    public void recordBatch(LocalDate nextDate, int written, int skipped, Collection<LocalDate> failed) {
+        this.nextDate = nextDate;
+        this.writtenCount += written;
+        this.skippedCount += skipped;
+        if (!failed.isEmpty()) {
+            List<LocalDate> dates = new ArrayList<>(getFailedDateList());
+            dates.addAll(failed);
+            this.failedDates = dates.stream().map(LocalDate::toString).collect(Collectors.joining(","));
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 다시 시작 (실패한 날짜는 재시도 대상으로 돌려받음)
+    public List<LocalDate> restart() {
+        List<LocalDate> failed = getFailedDateList();
+        this.failedDates = null;
+        this.error = null;
+        this.status = BackfillStatus.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+        return failed;
+    }
+
+    public void finish() {
+        this.nextDate = null;
+        this.status = getFailedDateList().isEmpty() ? BackfillStatus.COMPLETED : BackfillStatus.PARTIAL;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(Throwable error) {
+        this.status = BackfillStatus.FAILED;
+        this.error = error.getMessage();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void interrupt() {
+        this.status = BackfillStatus.INTERRUPTED;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.jpopranker.crawler.entity;
+
+public enum BackfillStatus {
+    RUNNING,
+    COMPLETED,   // 모든 날짜 저장
+    PARTIAL,     // 일부 날짜 실패 (다시 시작하면 실패한 날짜도 재시도)
+    FAILED,      // 작업 자체 오류
+    INTERRUPTED  // 서버 재시작 등으로 중단 (다시 시작하면 진행 위치부터 이어서 진행)
+}
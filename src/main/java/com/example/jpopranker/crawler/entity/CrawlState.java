@@ -0,0 +1,44 @@
+package com.example.jpopranker.crawler.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 차트별 마지막 크롤링 상태 (조건부 요청 헤더 값과 내용 해시)
+@Getter
+@Entity
+@Table(name = "crawl_states")
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class CrawlState {
+
+    @Id
+    @Column(name = "chart_id")
+    private String chartId;
+
+    private String etag;
+
+    @Column(name = "last_modified")
+    private String lastModified;
+
+    // 응답 HTML 전체의 해시 (같으면 파싱 생략)
+    @Column(name = "page_hash", length = 64)
+    private String pageHash;
+
+    // 추출한 차트 행들의 해시 (같으면 DB 저장 생략)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "checked_at")
+    private LocalDateTime checkedAt;
+
+    @Column(name = "changed_at")
+    private LocalDateTime changedAt;
+}
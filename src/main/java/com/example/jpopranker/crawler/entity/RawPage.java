@@ -0,0 +1,53 @@
+package com.example.jpopranker.crawler.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관된 원본 페이지의 차트/날짜 색인 (본문은 RawPageArchive가 내용 해시로 파일에 저장)
+@Getter
+@Entity
+@Table(name = "raw_pages",
+    uniqueConstraints = @UniqueConstraint(name = "uk_raw_page_chart_date_hash",
+        columnNames = {"chart_name", "chart_date", "content_hash"}),
+    indexes = @Index(name = "idx_raw_page_content_hash", columnList = "content_hash"))
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class RawPage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chart_name", nullable = false)
+    private String chartName;
+
+    @Column(name = "chart_date", nullable = false)
+    private LocalDate chartDate;
+
+    // 본문(UTF-8)의 SHA-256
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(length = 1000)
+    private String url;
+
+    // 압축 전 크기
+    @Column(name = "size_bytes")
+    private Integer sizeBytes;
+
+    @Column(name = "fetched_at")
+    private LocalDateTime fetchedAt;
+}
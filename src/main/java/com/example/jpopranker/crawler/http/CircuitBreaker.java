@@ -0,0 +1,84 @@
+package com.example.jpopranker.crawler.http;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+
+// 소스별 차단기
+// 연속 실패가 기준을 넘으면 openDuration 동안 바로 실패시키고, 그 뒤에는 요청 하나만 보내서 회복 여부를 확인
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String sourceId;
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedUntil = Instant.MIN;
+
+    // HALF_OPEN에서 확인 요청이 진행 중인지
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String sourceId, int failureThreshold, Duration openDuration) {
+        this.sourceId = sourceId;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    // 요청을 보내도 되는지 (false면 바로 실패)
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (Instant.now().isBefore(openedUntil)) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            log.info("{} 차단기 반열림, 확인 요청 전송", sourceId);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("{} 차단기 닫힘 (회복)", sourceId);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedUntil = Instant.now().plus(openDuration);
+            log.warn("{} 차단기 열림 (연속 실패 {}회, {}까지 요청 차단)", sourceId, consecutiveFailures, openedUntil);
+        }
+    }
+
+    // 결과 없이 취소된 경우 (확인 요청이었으면 다음 요청이 다시 확인)
+    public synchronized void onCancel() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Instant getOpenedUntil() {
+        return openedUntil;
+    }
+}
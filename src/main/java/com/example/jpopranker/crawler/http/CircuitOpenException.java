@@ -0,0 +1,19 @@
+package com.example.jpopranker.crawler.http;
+
+import java.time.Instant;
+import lombok.Getter;
+
+// 차단기가 열려 있어서 요청을 보내지 않고 실패
+@Getter
+public class CircuitOpenException extends RuntimeException {
+
+    private final String sourceId;
+
+    private final Instant retryAt;
+
+    public CircuitOpenException(String sourceId, Instant retryAt) {
+        super(sourceId + " 요청 차단 중 (연속 실패, " + retryAt + " 이후 재시도)");
+        this.sourceId = sourceId;
+        this.retryAt = retryAt;
+    }
+}
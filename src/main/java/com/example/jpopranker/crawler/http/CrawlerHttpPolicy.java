@@ -0,0 +1,73 @@
+package com.example.jpopranker.crawler.http;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+// 차트 페이지 요청에 공통으로 적용하는 제한 시간, 재시도, 소스별 차단기
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlerHttpPolicy {
+
+    private final CrawlerProperties crawlerProperties;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    // 요청 하나를 감쌈 (재시도를 모두 실패해야 차단기에 실패 1회로 기록)
+    public <T> Mono<T> apply(String sourceId, Mono<T> request) {
+        CrawlerProperties.Http config = crawlerProperties.getHttp();
+        CircuitBreaker breaker = getBreaker(sourceId);
+        return Mono.defer(() -> {
+            if (!breaker.tryAcquire()) {
+                return Mono.error(new CircuitOpenException(sourceId, breaker.getOpenedUntil()));
+            }
+            return request
+                .timeout(config.getRequestTimeout())
+                .retryWhen(Retry.backoff(config.getMaxRetries(), config.getInitialBackoff())
+                    .maxBackoff(config.getMaxBackoff())
+                    .jitter(0.5)
+                    .filter(CrawlerHttpPolicy::isRetryable)
+                    .doBeforeRetry(signal -> log.warn("{} 요청 재시도 {}회: {}", sourceId,
+                        signal.totalRetries() + 1, signal.failure().toString()))
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnSuccess(result -> breaker.onSuccess())
+                .doOnError(e -> {
+                    // 404 같은 응답은 사이트가 살아 있다는 뜻이므로 실패로 세지 않음
+                    if (isRetryable(e)) {
+                        breaker.onFailure();
+                    } else {
+                        breaker.onSuccess();
+                    }
+                })
+                .doOnCancel(breaker::onCancel);
+        });
+    }
+
+    public CircuitBreaker getBreaker(String sourceId) {
+        CrawlerProperties.Http config = crawlerProperties.getHttp();
+        return breakers.computeIfAbsent(sourceId, id ->
+            new CircuitBreaker(id, config.getFailureThreshold(), config.getOpenDuration()));
+    }
+
+    // 일시적인 오류만 재시도 (네트워크 오류, 타임아웃, 5xx, 429)
+    static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException
+            || e instanceof TimeoutException
+            || e instanceof ReadTimeoutException
+            || e instanceof IOException;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.jpopranker.crawler.http;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+// 호스트별 토큰 버킷 (WebClient 필터)
+// 토큰이 없으면 스레드를 막지 않고 다음 토큰이 생길 때까지 요청을 지연
+@Slf4j
+public class HostRateLimiter implements ExchangeFilterFunction {
+
+    private final double requestsPerSecond;
+    private final int burst;
+
+    // 시각 (테스트에서는 고정된 값으로 바꿔서 예약된 지연을 바로 확인)
+    private final LongSupplier nanoTime;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(double requestsPerSecond, int burst) {
+        this(requestsPerSecond, burst, System::nanoTime);
+    }
+
+    HostRateLimiter(double requestsPerSecond, int burst, LongSupplier nanoTime) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String host = request.url().getHost();
+        return Mono.defer(() -> {
+            long delayNanos = reserve(host);
+            if (delayNanos <= 0) {
+                return next.exchange(request);
+            }
+            log.debug("{} 요청 {}ms 지연 (초당 {}회 제한)", host, delayNanos / 1_000_000, requestsPerSecond);
+            return Mono.delay(Duration.ofNanos(delayNanos)).then(next.exchange(request));
+        });
+    }
+
+    // 호스트의 토큰을 하나 예약하고 기다릴 시간(ns)을 반환
+    long reserve(String host) {
+        return buckets.computeIfAbsent(host, key -> new TokenBucket(requestsPerSecond, burst, nanoTime)).reserve();
+    }
+
+    // 토큰을 미리 예약하고 (음수까지 허용) 그만큼 기다릴 시간을 반환
+    private static final class TokenBucket {
+
+        private final double ratePerNano;
+        private final int capacity;
+        private final LongSupplier nanoTime;
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(double requestsPerSecond, int capacity, LongSupplier nanoTime) {
+            this.ratePerNano = requestsPerSecond / 1_000_000_000d;
+            this.capacity = capacity;
+            this.nanoTime = nanoTime;
+            this.tokens = capacity;
+            this.refilledAt = nanoTime.getAsLong();
+        }
+
+        private synchronized long reserve() {
+            long now = nanoTime.getAsLong();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * ratePerNano);
+            refilledAt = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens / ratePerNano);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.jpopranker.crawler.job;
+
+import com.example.jpopranker.crawler.dto.CrawlResult;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+// 크롤링 작업 하나의 진행 상태 (여러 요청 스레드에서 읽으므로 상태 변경은 synchronized)
+@Getter
+public class CrawlJob {
+
+    private final String jobId;
+
+    // 같은 차트 조합의 진행 중 작업을 찾기 위한 키
+    private final String jobKey;
+
+    private final List<String> chartIds;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final long startNanos = System.nanoTime();
+
+    private final Map<String, CrawlResult> results = new LinkedHashMap<>();
+
+    private final Map<String, Long> chartElapsedMillis = new LinkedHashMap<>();
+
+    private CrawlJobStatus status = CrawlJobStatus.RUNNING;
+
+    private LocalDateTime finishedAt;
+
+    private Long elapsedMillis;
+
+    private String error;
+
+    public CrawlJob(String jobId, String jobKey, List<String> chartIds) {
+        this.jobId = jobId;
+        this.jobKey = jobKey;
+        this.chartIds = chartIds;
+    }
+
+    public synchronized void recordChart(CrawlResult result) {
+        results.put(result.getChartId(), result);
+        chartElapsedMillis.put(result.getChartId(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    public synchronized void complete(Map<String, CrawlResult> finalResults) {
+        finalResults.values().forEach(result -> results.putIfAbsent(result.getChartId(), result));
+        long succeeded = chartIds.stream()
+            .filter(chartId -> results.containsKey(chartId)
+                && results.get(chartId).getStatus() != CrawlResult.Status.FAILED)
+            .count();
+
+        if (succeeded == chartIds.size()) {
+            status = CrawlJobStatus.SUCCEEDED;
+        } else if (succeeded > 0) {
+            status = CrawlJobStatus.PARTIAL;
+        } else {
+            status = CrawlJobStatus.FAILED;
+        }
+        finish();
+    }
+
+    public synchronized void fail(Throwable e) {
+        status = CrawlJobStatus.FAILED;
+        error = e.getMessage();
+        finish();
+    }
+
+    public synchronized boolean isFinished() {
+        return status != CrawlJobStatus.RUNNING;
+    }
+
+    public synchronized int getSavedCount() {
+        return results.values().stream().mapToInt(CrawlResult::getSavedCount).sum();
+    }
+
+    private void finish() {
+        finishedAt = LocalDateTime.now();
+        elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
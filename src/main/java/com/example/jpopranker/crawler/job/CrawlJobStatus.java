@@ -0,0 +1,8 @@
+package com.example.jpopranker.crawler.job;
+
+public enum CrawlJobStatus {
+    RUNNING,
+    SUCCEEDED,  // 모든 차트 성공 (변경 없음 포함)
+    PARTIAL,    // 일부 차트만 성공
+    FAILED      // 모든 차트 실패 또는 작업 자체 오류
+}
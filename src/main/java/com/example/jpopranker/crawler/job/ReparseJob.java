@@ -0,0 +1,67 @@
+package com.example.jpopranker.crawler.job;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+// 보관 페이지 재파싱 작업 하나의 진행 상태 (여러 요청 스레드에서 읽으므로 상태 변경은 synchronized)
+@Getter
+public class ReparseJob {
+
+    private final String jobId;
+
+    private final String chartName;
+
+    private final LocalDate from;
+
+    private final LocalDate to;
+
+    private final int totalPages;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    // 파싱 결과가 저장된 스냅샷과 달라서 다시 쓴 날짜 수
+    private int rewrittenCount;
+
+    private int unchangedCount;
+
+    // 파싱 결과가 비어 있거나 페이지를 읽지 못한 날짜
+    private final List<LocalDate> failedDates = new ArrayList<>();
+
+    private CrawlJobStatus status = CrawlJobStatus.RUNNING;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+
+    public ReparseJob(String jobId, String chartName, LocalDate from, LocalDate to, int totalPages) {
+        this.jobId = jobId;
+        this.chartName = chartName;
+        this.from = from;
+        this.to = to;
+        this.totalPages = totalPages;
+    }
+
+    public synchronized void recordBatch(int rewritten, int unchanged, List<LocalDate> failed) {
+        rewrittenCount += rewritten;
+        unchangedCount += unchanged;
+        failedDates.addAll(failed);
+    }
+
+    public synchronized void complete() {
+        status = failedDates.isEmpty() ? CrawlJobStatus.SUCCEEDED : CrawlJobStatus.PARTIAL;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized void fail(Throwable e) {
+        status = CrawlJobStatus.FAILED;
+        error = e.getMessage();
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized boolean isFinished() {
+        return status != CrawlJobStatus.RUNNING;
+    }
+}
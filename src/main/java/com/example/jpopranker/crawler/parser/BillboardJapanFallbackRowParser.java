@@ -0,0 +1,41 @@
+package com.example.jpopranker.crawler.parser;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+// Billboard Japan 백업 방법: tbody 안의 rank 클래스 tr에서 첫 span을 순위로 사용
+public class BillboardJapanFallbackRowParser implements ChartRowParser {
+
+    private static final Evaluator ROW = QueryParser.parse("tbody tr");
+    private static final Evaluator RANK = QueryParser.parse("span");
+    private static final Evaluator TITLE = QueryParser.parse("p.musuc_title");
+    private static final Evaluator ARTIST = QueryParser.parse("p.artist_name");
+
+    @Override
+    public Evaluator rowEvaluator() {
+        return ROW;
+    }
+
+    @Override
+    public ChartRow parse(Element row) {
+        // 클래스명이 rank로 시작하는 행만 처리
+        if (!row.className().startsWith("rank")) return null;
+
+        Element rankSpan = row.selectFirst(RANK);
+        if (rankSpan == null) return null;
+
+        int rank = ParseSupport.parseRank(rankSpan.text());
+        if (rank < 0) return null;
+
+        Element titleElement = row.selectFirst(TITLE);
+        Element artistElement = row.selectFirst(ARTIST);
+        if (titleElement == null || artistElement == null) return null;
+
+        String title = titleElement.text();
+        String artist = artistElement.text();
+        if (title.length() <= 1 || artist.length() <= 1) return null;
+
+        return new ChartRow(rank, title, artist);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.jpopranker.crawler.parser;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+// Billboard Japan Hot 100 기본 구조: tr.rankN > td.rank_td span / p.musuc_title / p.artist_name
+public class BillboardJapanRowParser implements ChartRowParser {
+
+    private static final Evaluator ROW = QueryParser.parse("tr[class*=rank]");
+    private static final Evaluator RANK = QueryParser.parse("td.rank_td span");
+    // 사이트의 오타(musuc) 그대로
+    private static final Evaluator TITLE = QueryParser.parse("p.musuc_title");
+    private static final Evaluator ARTIST = QueryParser.parse("p.artist_name");
+
+    @Override
+    public Evaluator rowEvaluator() {
+        return ROW;
+    }
+
+    @Override
+    public ChartRow parse(Element row) {
+        Element rankCell = row.selectFirst(RANK);
+        if (rankCell == null) return null;
+
+        int rank = ParseSupport.parseRank(rankCell.text());
+        if (rank < 0) return null;
+
+        Element titleElement = row.selectFirst(TITLE);
+        Element artistElement = row.selectFirst(ARTIST);
+        if (titleElement == null || artistElement == null) return null;
+
+        // 앞의 숫자 제거
+        String title = ParseSupport.stripLeadingNumber(titleElement.text());
+        String artist = ParseSupport.stripLeadingNumber(artistElement.text());
+
+        // 유효성 검사
+        if (title.length() <= 1 || artist.length() <= 1 ||
+            artist.equals("Unknown") || title.equals(artist)) {
+            return null;
+        }
+        return new ChartRow(rank, title, artist);
+    }
+}
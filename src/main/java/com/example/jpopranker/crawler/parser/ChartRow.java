@@ -0,0 +1,11 @@
+package com.example.jpopranker.crawler.parser;
+
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+
+// 파서가 추출한 차트 한 줄
+public record ChartRow(int rank, String title, String artist) {
+
+    public SongRequestDto toRequestDto(String chartName) {
+        return new SongRequestDto(title, artist, rank, chartName);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.jpopranker.crawler.parser;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+
+// 차트 행 추출 규칙
+// CSS 쿼리는 클래스 로딩 시 Evaluator로 한번만 컴파일해서 모든 페이지/행에서 재사용
+public interface ChartRowParser {
+
+    // 차트 한 줄에 해당하는 요소
+    Evaluator rowEvaluator();
+
+    // 행 요소 하나를 ChartRow로 변환 (유효하지 않은 행이면 null)
+    ChartRow parse(Element row);
+}
@@ -0,0 +1,38 @@
+package com.example.jpopranker.crawler.parser;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+// Oricon 랭킹: .media-box > p.media-rank / li.media-title / li.media-artist
+public class OriconRowParser implements ChartRowParser {
+
+    private static final Evaluator ROW = QueryParser.parse(".media-box");
+    private static final Evaluator RANK = QueryParser.parse("p.media-rank");
+    private static final Evaluator TITLE = QueryParser.parse("li.media-title");
+    private static final Evaluator ARTIST = QueryParser.parse("li.media-artist");
+
+    @Override
+    public Evaluator rowEvaluator() {
+        return ROW;
+    }
+
+    @Override
+    public ChartRow parse(Element item) {
+        Element rankElement = item.selectFirst(RANK);
+        if (rankElement == null) return null;
+
+        int rank = ParseSupport.parseRank(rankElement.text());
+        if (rank < 0) return null;
+
+        Element titleElement = item.selectFirst(TITLE);
+        Element artistElement = item.selectFirst(ARTIST);
+        if (titleElement == null || artistElement == null) return null;
+
+        String title = titleElement.text();
+        String artist = artistElement.text();
+        if (title.isEmpty() || artist.isEmpty()) return null;
+
+        return new ChartRow(rank, title, artist);
+    }
+}
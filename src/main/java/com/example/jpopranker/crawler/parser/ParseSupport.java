@@ -0,0 +1,41 @@
+package com.example.jpopranker.crawler.parser;
+
+// 정규식 없이 처리하는 파싱 유틸
+public final class ParseSupport {
+
+    private ParseSupport() {
+    }
+
+    // 앞뒤 공백을 뺀 나머지가 숫자로만 되어 있으면 그 값, 아니면 -1
+    public static int parseRank(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        if (start == end || end - start > 9) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    // 앞에 붙은 숫자와 뒤따르는 공백 제거 ("12 Title" -> "Title")
+    public static String stripLeadingNumber(String text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length && text.charAt(i) >= '0' && text.charAt(i) <= '9') i++;
+        if (i == 0) {
+            return text;
+        }
+        while (i < length && Character.isWhitespace(text.charAt(i))) i++;
+        return text.substring(i).trim();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.jpopranker.crawler.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+// 한 차트의 행 추출 방법들 (우선순위 순)
+// 마지막으로 성공한 방법을 먼저 시도해서, 레이아웃이 바뀐 뒤에도 보통은 DOM을 한 번만 훑게 함
+public class ParserStrategies {
+
+    private final List<ChartRowParser> parsers;
+
+    // 방법별 시도/성공 횟수
+    private final AtomicLongArray attempts;
+    private final AtomicLongArray hits;
+
+    // 마지막으로 성공한 방법의 인덱스
+    private volatile int preferred;
+
+    public ParserStrategies(List<ChartRowParser> parsers) {
+        if (parsers.isEmpty()) {
+            throw new IllegalArgumentException("행 추출 방법이 없음");
+        }
+        this.parsers = List.copyOf(parsers);
+        this.attempts = new AtomicLongArray(parsers.size());
+        this.hits = new AtomicLongArray(parsers.size());
+    }
+
+    // 지금 먼저 시도할 방법 (스트리밍 파싱은 이 방법 하나만 사용)
+    public ChartRowParser preferred() {
+        return parsers.get(preferred);
+    }
+
+    // 마지막으로 성공한 방법부터 차례로 시도해서 처음으로 결과가 나온 방법의 결과를 반환
+    public <T> List<T> extract(Function<ChartRowParser, List<T>> extractor) {
+        int first = preferred;
+        for (int i = 0; i < parsers.size(); i++) {
+            int index = (first + i) % parsers.size();
+            List<T> rows = extractor.apply(parsers.get(index));
+            record(index, !rows.isEmpty());
+            if (!rows.isEmpty()) {
+                return rows;
+            }
+        }
+        return List.of();
+    }
+
+    // 외부에서 한 방법만으로 추출한 결과 기록 (스트리밍 파싱)
+    public void record(ChartRowParser parser, boolean hit) {
+        int index = parsers.indexOf(parser);
+        if (index >= 0) {
+            record(index, hit);
+        }
+    }
+
+    public List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>(parsers.size());
+        for (int i = 0; i < parsers.size(); i++) {
+            long attempted = attempts.get(i);
+            long succeeded = hits.get(i);
+            stats.add(new Stats(parsers.get(i).getClass().getSimpleName(), attempted, succeeded,
+                attempted == 0 ? 0 : (double) succeeded / attempted, i == preferred));
+        }
+        return stats;
+    }
+
+    private void record(int index, boolean hit) {
+        attempts.incrementAndGet(index);
+        if (hit) {
+            hits.incrementAndGet(index);
+            preferred = index;
+        }
+    }
+
+    public record Stats(String parser, long attempts, long hits, double hitRate, boolean preferred) {
+    }
+}
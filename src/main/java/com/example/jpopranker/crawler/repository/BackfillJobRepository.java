@@ -0,0 +1,16 @@
+package com.example.jpopranker.crawler.repository;
+
+import com.example.jpopranker.crawler.entity.BackfillJob;
+import com.example.jpopranker.crawler.entity.BackfillStatus;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BackfillJobRepository extends JpaRepository<BackfillJob, Long> {
+
+    List<BackfillJob> findByStatus(BackfillStatus status);
+
+    // 최근 작업부터
+    List<BackfillJob> findTop20ByOrderByIdDesc();
+}
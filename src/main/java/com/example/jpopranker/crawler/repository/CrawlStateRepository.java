@@ -0,0 +1,9 @@
+package com.example.jpopranker.crawler.repository;
+
+import com.example.jpopranker.crawler.entity.CrawlState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CrawlStateRepository extends JpaRepository<CrawlState, String> {
+}
@@ -0,0 +1,19 @@
+package com.example.jpopranker.crawler.repository;
+
+import com.example.jpopranker.crawler.entity.RawPage;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RawPageRepository extends JpaRepository<RawPage, Long> {
+
+    Optional<RawPage> findByChartNameAndChartDateAndContentHash(String chartName, LocalDate chartDate,
+        String contentHash);
+
+    // 기간 안의 보관 페이지 (날짜순, 같은 날짜는 마지막으로 가져온 것이 뒤에 옴)
+    List<RawPage> findByChartNameAndChartDateBetweenOrderByChartDateAscFetchedAtAsc(String chartName,
+        LocalDate from, LocalDate to);
+}
@@ -0,0 +1,211 @@
+package com.example.jpopranker.crawler.service;
+
+import com.example.jpopranker.chart.service.ChartSnapshotService;
+import com.example.jpopranker.crawler.archive.RawPageArchive;
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.dto.BackfillRequestDto;
+import com.example.jpopranker.crawler.entity.BackfillJob;
+import com.example.jpopranker.crawler.entity.BackfillStatus;
+import com.example.jpopranker.crawler.repository.BackfillJobRepository;
+import com.example.jpopranker.crawler.source.ChartSource;
+import com.example.jpopranker.crawler.source.ChartSourceRegistry;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// 과거 차트 백필
+// 기간 안의 차트 날짜별 URL을 제한된 동시성으로 가져오고, 날짜순으로 배치 단위 저장 후 진행 위치를 기록
+// 현재 차트(songs)는 건드리지 않고 스냅샷 이력만 채움
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackfillService {
+
+    private final ChartSourceRegistry chartSourceRegistry;
+    private final ChartSnapshotService chartSnapshotService;
+    private final BackfillJobRepository backfillJobRepository;
+    private final CrawlerProperties crawlerProperties;
+    private final RawPageArchive rawPageArchive;
+
+    // 차트별 진행 중인 작업 ID (같은 차트는 한 번에 하나만)
+    private final Map<String, Long> activeJobs = new ConcurrentHashMap<>();
+
+    public synchronized BackfillJob submit(BackfillRequestDto request) {
+        ChartSource source = chartSourceRegistry.getSource(request.getChartName());
+        if (request.getFrom() == null || request.getTo() == null || request.getFrom().isAfter(request.getTo())) {
+            throw new IllegalArgumentException("잘못된 기간: " + request.getFrom() + " ~ " + request.getTo());
+        }
+        List<LocalDate> dates = source.getArchiveDates(request.getFrom(), request.getTo());
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException(source.getChartId() + " 차트는 백필을 지원하지 않거나 기간 안에 차트 날짜가 없음");
+        }
+        if (dates.size() > crawlerProperties.getBackfill().getMaxPeriods()) {
+            throw new IllegalArgumentException("기간이 너무 김: " + dates.size() + "개 (최대 "
+                + crawlerProperties.getBackfill().getMaxPeriods() + "개)");
+        }
+
+        Long activeJobId = activeJobs.get(source.getChartId());
+        if (activeJobId != null) {
+            log.info("{} 차트 백필이 이미 진행 중: {}", source.getChartId(), activeJobId);
+            return getJob(activeJobId);
+        }
+
+        BackfillJob job = backfillJobRepository.save(BackfillJob.builder()
+            .chartName(source.getChartId())
+            .fromDate(request.getFrom())
+            .toDate(request.getTo())
+            .nextDate(dates.get(0))
+            .status(BackfillStatus.RUNNING)
+            .overwrite(request.isOverwrite())
+            .totalPeriods(dates.size())
+            .build());
+        log.info("{} 차트 백필 등록: {} ({} ~ {}, {}개)", source.getChartId(), job.getId(),
+            request.getFrom(), request.getTo(), dates.size());
+        start(job, source, dates);
+        return job;
+    }
+
+    // 중단/실패한 작업을 진행 위치부터 다시 시작 (실패한 날짜도 재시도)
+    public synchronized BackfillJob resume(Long jobId) {
+        BackfillJob job = getJob(jobId);
+        if (!job.isFinished() || job.getStatus() == BackfillStatus.COMPLETED
+            || activeJobs.containsKey(job.getChartName())) {
+            return job;
+        }
+
+        ChartSource source = chartSourceRegistry.getSource(job.getChartName());
+        Set<LocalDate> dates = new TreeSet<>(job.restart());
+        if (job.getNextDate() != null) {
+            dates.addAll(source.getArchiveDates(job.getNextDate(), job.getToDate()));
+        }
+        backfillJobRepository.save(job);
+        log.info("{} 차트 백필 재시작: {} (남은 날짜 {}개)", job.getChartName(), jobId, dates.size());
+        start(job, source, List.copyOf(dates));
+        return job;
+    }
+
+    public BackfillJob getJob(Long jobId) {
+        return backfillJobRepository.findById(jobId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 백필 작업: " + jobId));
+    }
+
+    public List<BackfillJob> getRecentJobs() {
+        return backfillJobRepository.findTop20ByOrderByIdDesc();
+    }
+
+    // 서버가 꺼지면서 멈춘 작업 표시 (resume으로 이어서 진행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterrupted() {
+        List<BackfillJob> running = backfillJobRepository.findByStatus(BackfillStatus.RUNNING);
+        running.forEach(BackfillJob::interrupt);
+        backfillJobRepository.saveAll(running);
+        if (!running.isEmpty()) {
+            log.info("중단된 백필 작업 {}개", running.size());
+        }
+    }
+
+    private void start(BackfillJob job, ChartSource source, List<LocalDate> dates) {
+        String chartName = job.getChartName();
+        CrawlerProperties.Backfill config = crawlerProperties.getBackfill();
+        AtomicInteger processed = new AtomicInteger();
+        activeJobs.put(chartName, job.getId());
+
+        Mono.fromCallable(() -> job.isOverwrite()
+                ? Set.<LocalDate>of()
+                : chartSnapshotService.findSnapshotDates(chartName))
+            .subscribeOn(Schedulers.boundedElastic())
+            // 가져오기는 동시에, 결과는 날짜순으로 (진행 위치 이전은 모두 처리된 상태가 되도록)
+            .flatMapMany(existing -> Flux.fromIterable(dates)
+                .flatMapSequential(date -> existing.contains(date)
+                    ? Mono.just(ArchivedChart.skipped(date))
+                    : fetchChart(source, date), config.getMaxConcurrency()))
+            .buffer(config.getBatchSize())
+            .concatMap(batch -> Mono.fromRunnable(() -> {
+                int next = processed.addAndGet(batch.size());
+                writeBatch(job, batch, next < dates.size() ? dates.get(next) : null);
+            }).subscribeOn(Schedulers.boundedElastic()))
+            .then()
+            .doFinally(signal -> activeJobs.remove(chartName, job.getId()))
+            .subscribe(null, e -> {
+                log.error("{} 차트 백필 실패: {}", chartName, job.getId(), e);
+                job.fail(e);
+                backfillJobRepository.save(job);
+            }, () -> {
+                job.finish();
+                backfillJobRepository.save(job);
+                log.info("{} 차트 백필 완료: {} - 저장 {}개, 건너뜀 {}개, 실패 {}개", chartName, job.getId(),
+                    job.getWrittenCount(), job.getSkippedCount(), job.getFailedDateList().size());
+            });
+    }
+
+    private Mono<ArchivedChart> fetchChart(ChartSource source, LocalDate chartDate) {
+        return source.fetchArchive(chartDate)
+            // 파싱은 블로킹 작업이므로 boundedElastic에서 처리
+            .publishOn(Schedulers.boundedElastic())
+            .map(page -> {
+                rawPageArchive.store(source.getChartId(), chartDate, page);
+                return ArchivedChart.fetched(chartDate,
+                    page.getRows() != null ? page.getRows() : source.parse(page.getHtml()));
+            })
+            .defaultIfEmpty(ArchivedChart.failed(chartDate))
+            .onErrorResume(e -> {
+                log.warn("{} {} 과거 차트 가져오기 실패: {}", source.getChartId(), chartDate, e.getMessage());
+                return Mono.just(ArchivedChart.failed(chartDate));
+            });
+    }
+
+    // 배치의 스냅샷을 한 트랜잭션으로 저장하고 진행 위치 기록
+    private void writeBatch(BackfillJob job, List<ArchivedChart> batch, LocalDate nextDate) {
+        SortedMap<LocalDate, List<SongRequestDto>> snapshots = new TreeMap<>();
+        List<LocalDate> failed = new ArrayList<>();
+        int skipped = 0;
+        for (ArchivedChart chart : batch) {
+            if (chart.skipped()) {
+                skipped++;
+            } else if (chart.songs().isEmpty()) {
+                failed.add(chart.chartDate());
+            } else {
+                snapshots.put(chart.chartDate(), chart.songs());
+            }
+        }
+        int written = chartSnapshotService.recordSnapshotsIsolated(job.getChartName(), snapshots, failed);
+        job.recordBatch(nextDate, written, skipped, failed);
+        backfillJobRepository.save(job);
+        log.info("{} 차트 백필 진행: {} - 저장 {}개, 건너뜀 {}개, 실패 {}개 (다음 {})", job.getChartName(),
+            job.getId(), written, skipped, failed.size(), nextDate);
+    }
+
+    // 날짜 하나의 가져오기 결과 (실패하면 songs가 비어 있음)
+    private record ArchivedChart(LocalDate chartDate, List<SongRequestDto> songs, boolean skipped) {
+
+        static ArchivedChart fetched(LocalDate chartDate, List<SongRequestDto> songs) {
+            return new ArchivedChart(chartDate, songs, false);
+        }
+
+        static ArchivedChart failed(LocalDate chartDate) {
+            return new ArchivedChart(chartDate, List.of(), false);
+        }
+
+        static ArchivedChart skipped(LocalDate chartDate) {
+            return new ArchivedChart(chartDate, List.of(), true);
+        }
+    }
+}
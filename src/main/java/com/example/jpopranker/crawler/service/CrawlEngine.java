@@ -0,0 +1,100 @@
+package com.example.jpopranker.crawler.service;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.dto.CrawlResult;
+import com.example.jpopranker.crawler.source.ChartSource;
+import com.example.jpopranker.crawler.source.ChartSourceRegistry;
+import com.example.jpopranker.song.service.SongService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// 등록된 차트들을 동시에 크롤링하는 엔진
+// 전체 소요 시간 = 차트별 시간의 합이 아니라 가장 느린 차트의 시간
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawlEngine {
+
+    private final CrawlerService crawlerService;
+    private final SongService songService;
+    private final ChartSourceRegistry chartSourceRegistry;
+    private final CrawlerProperties crawlerProperties;
+
+    // 진행 중인 차트별 크롤링 (같은 차트 요청은 이 결과를 같이 기다림)
+    private final Map<String, Mono<CrawlResult>> inFlight = new ConcurrentHashMap<>();
+
+    // 지정한 차트들을 동시에 크롤링하고 차트별 결과를 반환
+    public Map<String, CrawlResult> crawl(Collection<String> chartIds) {
+        return crawlAsync(resolveSources(chartIds), result -> { }).block();
+    }
+
+    public List<ChartSource> resolveSources(Collection<String> chartIds) {
+        return chartIds.stream()
+            .map(chartSourceRegistry::getSource)
+            .toList();
+    }
+
+    public boolean isRunning(String chartId) {
+        return inFlight.containsKey(chartId);
+    }
+
+    // 논블로킹 버전 (차트 하나가 끝날 때마다 onChartDone 호출)
+    public Mono<Map<String, CrawlResult>> crawlAsync(List<ChartSource> sources, Consumer<CrawlResult> onChartDone) {
+        CrawlerProperties.Engine engine = crawlerProperties.getEngine();
+        long startTime = System.currentTimeMillis();
+        log.info("차트 {}개 동시 크롤링 시작 (최대 동시 {}개, 제한 시간 {})",
+            sources.size(), engine.getMaxConcurrency(), engine.getTimeout());
+
+        return Flux.fromIterable(sources)
+            .flatMap(source -> crawlShared(source)
+                .doOnNext(onChartDone)
+                .map(result -> Map.entry(source.getChartId(), result)), engine.getMaxConcurrency())
+            // 제한 시간이 지나면 끝난 차트 결과만 모음
+            .take(engine.getTimeout())
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new)
+            // 정리 작업은 블로킹이므로 boundedElastic에서 처리
+            .publishOn(Schedulers.boundedElastic())
+            .map(results -> {
+                for (ChartSource source : sources) {
+                    if (!results.containsKey(source.getChartId())) {
+                        log.warn("{} 차트가 제한 시간 안에 끝나지 않음", source.getChartId());
+                    }
+                }
+
+                // 차트마다 정리하지 않고 전체 크롤링 후 한번만 정리 (바뀐 차트가 있을 때만)
+                if (results.values().stream().anyMatch(CrawlResult::isUpdated)) {
+                    songService.autoCleanupAfterCrawling();
+                }
+
+                log.info("동시 크롤링 완료 ({}ms): {}", System.currentTimeMillis() - startTime, results);
+                return results;
+            });
+    }
+
+    // 같은 차트가 이미 크롤링 중이면 새로 시작하지 않고 진행 중인 결과를 공유
+    // 공유된 크롤링은 요청 하나가 취소돼도 멈추지 않으므로, 제한 시간은 cache() 앞에서 걸어서 실제 요청까지 취소
+    private Mono<CrawlResult> crawlShared(ChartSource source) {
+        Duration timeout = crawlerProperties.getEngine().getTimeout();
+        return Mono.defer(() -> inFlight.computeIfAbsent(source.getChartId(), chartId ->
+            crawlerService.crawlAsync(source)
+                .timeout(timeout)
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.warn("{} 차트 크롤링 제한 시간 초과로 취소 ({})", chartId, timeout);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> inFlight.remove(chartId))
+                .cache()));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.jpopranker.crawler.service;
+
+import com.example.jpopranker.crawler.job.CrawlJob;
+import com.example.jpopranker.crawler.source.ChartSource;
+import com.example.jpopranker.crawler.source.ChartSourceRegistry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+// 크롤링 요청을 작업으로 등록하고 바로 작업 ID를 돌려줌
+// 같은 차트 조합의 작업이 진행 중이면 새로 만들지 않고 그 작업을 반환
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawlJobService {
+
+    // 끝난 작업을 보관하는 시간
+    private static final long RETENTION_MINUTES = 60;
+
+    private final CrawlEngine crawlEngine;
+    private final ChartSourceRegistry chartSourceRegistry;
+
+    private final Map<String, CrawlJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, CrawlJob> activeJobs = new ConcurrentHashMap<>();
+
+    // 활성화된 전체 차트 작업 등록
+    public CrawlJob submitAll() {
+        return startJob(chartSourceRegistry.getEnabledSources());
+    }
+
+    public CrawlJob submit(Collection<String> chartIds) {
+        return startJob(crawlEngine.resolveSources(chartIds));
+    }
+
+    private CrawlJob startJob(List<ChartSource> sources) {
+        List<String> resolvedIds = sources.stream().map(ChartSource::getChartId).toList();
+        String jobKey = String.join(",", resolvedIds.stream().sorted().toList());
+
+        // 조회용 맵에도 등록한 뒤에 활성 작업으로 보이게 해서, 합류한 쪽이 받은 작업 ID가 바로 조회되도록 함
+        CrawlJob[] created = new CrawlJob[1];
+        CrawlJob job = activeJobs.computeIfAbsent(jobKey, key -> {
+            created[0] = new CrawlJob(UUID.randomUUID().toString(), key, resolvedIds);
+            jobs.put(created[0].getJobId(), created[0]);
+            return created[0];
+        });
+        if (created[0] == null) {
+            log.info("진행 중인 크롤링 작업에 합류: {} ({})", job.getJobId(), jobKey);
+            return job;
+        }
+
+        log.info("크롤링 작업 등록: {} ({})", job.getJobId(), jobKey);
+
+        crawlEngine.crawlAsync(sources, job::recordChart)
+            .doFinally(signal -> activeJobs.remove(jobKey, job))
+            .subscribe(job::complete, e -> {
+                log.error("크롤링 작업 실패: {}", job.getJobId(), e);
+                job.fail(e);
+            });
+        return job;
+    }
+
+    public CrawlJob getJob(String jobId) {
+        CrawlJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 크롤링 작업: " + jobId);
+        }
+        return job;
+    }
+
+    // 오래된 완료 작업 정리
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.jpopranker.crawler.service;
+
+import com.example.jpopranker.chart.service.ChartSnapshotService;
+import com.example.jpopranker.crawler.entity.CrawlState;
+import com.example.jpopranker.crawler.repository.CrawlStateRepository;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import com.example.jpopranker.song.entity.RankMovement;
+import com.example.jpopranker.song.service.SongService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 바뀐 차트의 스냅샷, 현재 차트, 크롤링 상태를 한 트랜잭션으로 저장
+// 중간에 실패하면 모두 롤백되어 이력과 현재 차트가 어긋나지 않고, 다음 크롤링에서 처음부터 다시 저장함
+@Service
+@RequiredArgsConstructor
+public class CrawlResultWriter {
+
+    private final ChartSnapshotService chartSnapshotService;
+    private final SongService songService;
+    private final CrawlStateRepository crawlStateRepository;
+
+    @Transactional
+    public int write(String chartId, LocalDate chartDate, List<SongRequestDto> songs, CrawlState state) {
+        // 스냅샷 기록 단계에서 순위 변동을 계산하고, 현재 차트에도 같이 저장
+        Map<String, RankMovement> movements = chartSnapshotService.recordSnapshot(chartId, chartDate, songs);
+
+        // 새 버전으로 저장한 뒤 현재 버전 포인터만 교체 (지난 버전은 백그라운드에서 삭제)
+        int savedCount = songService.saveChartSnapshot(chartId, songs, movements);
+        crawlStateRepository.save(state);
+        return savedCount;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.jpopranker.crawler.service;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.source.ChartSource;
+import com.example.jpopranker.crawler.source.ChartSourceRegistry;
+import com.example.jpopranker.song.service.SongService;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+// crawler.charts.<id>.cron 설정으로 차트별 정기 크롤링을 등록하는 스케줄러
+// 같은 시각에 몰린 크롤링은 지터로 분산하고, 우선순위 큐 + 고정 크기 풀로 동시 실행 수를 제한
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlScheduler {
+
+    private final ChartSourceRegistry chartSourceRegistry;
+    private final CrawlEngine crawlEngine;
+    private final SongService songService;
+    private final CrawlerProperties crawlerProperties;
+    private final TaskScheduler taskScheduler;
+
+    // 대기 중이거나 실행 중인 차트 (같은 차트가 중복으로 쌓이지 않도록)
+    private final Set<String> pendingCharts = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private ThreadPoolExecutor crawlExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerChartSchedules() {
+        if (!crawlerProperties.isAutoEnabled()) {
+            log.info("정기 크롤링 비활성화됨 (crawler.auto-enabled=false)");
+            return;
+        }
+
+        int parallelism = crawlerProperties.getScheduler().getParallelism();
+        crawlExecutor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>());
+
+        for (ChartSource source : chartSourceRegistry.getEnabledSources()) {
+            CrawlerProperties.Chart config = chartSourceRegistry.getConfig(source.getChartId());
+            if (config.getCron() == null || config.getCron().isBlank()) {
+                continue;
+            }
+            taskScheduler.schedule(() -> submit(source.getChartId(), config.getPriority()),
+                new CronTrigger(config.getCron()));
+            log.info("정기 크롤링 등록: {} (cron: {}, 우선순위: {})",
+                source.getChartId(), config.getCron(), config.getPriority());
+        }
+    }
+
+    // 매주 일요일 오전 10시에 중복 데이터 정리
+    @Scheduled(cron = "0 0 10 * * SUN")
+    public void scheduledDataCleanup() {
+        log.info("정기 데이터 정리 시작: {}", LocalDateTime.now());
+        songService.autoCleanupAfterCrawling(); // 🔥 통합 자동 정리 사용
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (crawlExecutor != null) {
+            crawlExecutor.shutdownNow();
+        }
+    }
+
+    private void submit(String chartId, int priority) {
+        if (!pendingCharts.add(chartId)) {
+            log.info("{} 차트는 이미 대기 중이거나 실행 중이라 건너뜀", chartId);
+            return;
+        }
+
+        long maxJitterMillis = crawlerProperties.getScheduler().getMaxJitter().toMillis();
+        long jitterMillis = maxJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMillis + 1) : 0;
+        ScheduledCrawl crawl = new ScheduledCrawl(chartId, priority, sequence.incrementAndGet());
+        taskScheduler.schedule(() -> crawlExecutor.execute(crawl), Instant.now().plusMillis(jitterMillis));
+    }
+
+    // 우선순위가 높은 차트 먼저, 같으면 먼저 들어온 순서대로
+    private class ScheduledCrawl implements Runnable, Comparable<ScheduledCrawl> {
+
+        private final String chartId;
+        private final int priority;
+        private final long order;
+
+        private ScheduledCrawl(String chartId, int priority, long order) {
+            this.chartId = chartId;
+            this.priority = priority;
+            this.order = order;
+        }
+
+        @Override
+        public void run() {
+            try {
+                log.info("정기 {} 크롤링 시작: {}", chartId, LocalDateTime.now());
+                crawlEngine.crawl(List.of(chartId));
+            } catch (Exception e) {
+                log.error("정기 {} 크롤링 실패", chartId, e);
+            } finally {
+                pendingCharts.remove(chartId);
+            }
+        }
+
+        @Override
+        public int compareTo(ScheduledCrawl other) {
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+            return Long.compare(order, other.order);
+        }
+    }
+}
@@ -1,21 +1,32 @@
 package com.example.jpopranker.crawler.service;
 
+import com.example.jpopranker.crawler.archive.RawPageArchive;
+import com.example.jpopranker.crawler.dto.CrawlResult;
+import com.example.jpopranker.crawler.entity.CrawlState;
+import com.example.jpopranker.crawler.repository.CrawlStateRepository;
+import com.example.jpopranker.crawler.source.ChartSource;
+import com.example.jpopranker.crawler.source.ChartSourceRegistry;
+import com.example.jpopranker.crawler.source.FetchedPage;
 import com.example.jpopranker.song.dto.request.SongRequestDto;
 import com.example.jpopranker.song.service.SongService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -23,7 +34,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class CrawlerService {
 
     private final SongService songService;
-    private final WebClient webClient;
+    private final CrawlResultWriter crawlResultWriter;
+    private final ChartSourceRegistry chartSourceRegistry;
+    private final CrawlStateRepository crawlStateRepository;
+    private final RawPageArchive rawPageArchive;
 
     public void crawlTestData() {
         try {
@@ -67,247 +81,133 @@ public class CrawlerService {
 
                 log.info("크롤링한 곡 : {}위 - {} by {}", ranking, title, artist);
             }
-            
-            for (SongRequestDto song : songs) {
-                songService.saveSong(song);
-            }
-            log.info("크롤링 완료! {}곡 저장됨", songs.size());
+
+            int savedCount = songService.saveChartSnapshot("test-chart", songs);
+            log.info("크롤링 완료! {}곡 저장됨", savedCount);
         } catch (Exception e) {
             log.error("크롤링 중 오류 발생", e);
         }
     }
 
-    public void crawlBillboardJapan() {
-        try {
-            log.info("Billboard Japan 크롤링 시작");
-            
-            // 🔥 자동 데이터 정리: 크롤링 전에 기존 데이터 삭제
-            log.info("기존 Billboard Japan 데이터 정리 중...");
-            int deletedCount = songService.cleanupByChart("billboard-japan");
-            log.info("기존 데이터 {}개 정리 완료", deletedCount);
-            
-            String url = "https://www.billboard-japan.com/charts/detail?a=hot100";
-
-            String html = webClient.get()
-                .uri(url)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-            if (html == null) {
-                log.error("HTML을 가져올 수 없습니다.");
-                return;
-            }
-
-            Document doc = Jsoup.parse(html);
-            log.info("HTML 파싱 완료, 데이터 추출 시작");
-
-            // Billboard Japan의 실제 구조에 맞게 수정
-            // 각 순위의 tr 요소를 선택 (rank1, rank2, ... 클래스를 가진 tr들)
-            Elements rankRows = doc.select("tr[class*=rank]");
-            List<SongRequestDto> songs = new ArrayList<>();
-
-            for (Element row : rankRows) {
-                try {
-                    // 순위 추출 - rank_td 내의 span에서
-                    Element rankCell = row.select("td.rank_td span").first();
-                    if (rankCell == null) continue;
-                    
-                    String rankText = rankCell.text().trim();
-                    if (!rankText.matches("^\\d+$")) continue;
-                    
-                    int ranking = Integer.parseInt(rankText);
-                    if (ranking > 50) break; // 50위까지만
-                    
-                    // 곡 제목 추출 - musuc_title 클래스에서 (사이트의 오타 그대로)
-                    Element titleElement = row.select("p.musuc_title").first();
-                    if (titleElement == null) continue;
-                    
-                    String title = titleElement.text().trim();
-                    
-                    // 아티스트 추출 - artist_name 클래스에서
-                    Element artistElement = row.select("p.artist_name").first();
-                    if (artistElement == null) continue;
-                    
-                    String artist = artistElement.text().trim();
-                    
-                    // 데이터 정리
-                    title = title.replaceAll("^\\d+\\s*", "").trim(); // 앞의 숫자 제거
-                    artist = artist.replaceAll("^\\d+\\s*", "").trim(); // 앞의 숫자 제거
-                    
-                    // 유효성 검사
-                    if (title.length() > 1 && artist.length() > 1 && 
-                        !artist.equals("Unknown") && !title.equals(artist)) {
-                        
-                        SongRequestDto song = new SongRequestDto(title, artist, ranking, "billboard-japan");
-                        songs.add(song);
-
-                        log.info("Billboard Japan {}위 - \"{}\" by \"{}\"", ranking, title, artist);
-                    } else {
-                        log.warn("데이터 누락 - 순위: {}, 제목: \"{}\", 아티스트: \"{}\"", ranking, title, artist);
-                    }
-
-                } catch (Exception e) {
-                    log.warn("행 파싱 실패: {}", e.getMessage());
-                }
-            }
-
-            // 혹시 위의 방법이 안 되면 백업 방법 시도
-            if (songs.isEmpty()) {
-                log.info("첫 번째 방법 실패, 백업 방법 시도...");
-                
-                // tbody 내의 모든 tr 중에서 rank 클래스를 가진 것들
-                Elements allRows = doc.select("tbody tr");
-                
-                for (Element row : allRows) {
-                    try {
-                        // 클래스명에 rank가 포함된 행만 처리
-                        String className = row.className();
-                        if (!className.startsWith("rank")) continue;
-                        
-                        // 순위 정보 추출
-                        Elements rankSpans = row.select("span");
-                        if (rankSpans.isEmpty()) continue;
-                        
-                        String rankText = rankSpans.first().text().trim();
-                        if (!rankText.matches("^\\d+$")) continue;
-                        
-                        int ranking = Integer.parseInt(rankText);
-                        if (ranking > 20) break;
-                        
-                        // 곡 제목과 아티스트 추출
-                        Elements titleElements = row.select("p.musuc_title");
-                        Elements artistElements = row.select("p.artist_name");
-                        
-                        if (titleElements.isEmpty() || artistElements.isEmpty()) continue;
-                        
-                        String title = titleElements.text().trim();
-                        String artist = artistElements.text().trim();
-                        
-                        if (title.length() > 1 && artist.length() > 1) {
-                            SongRequestDto song = new SongRequestDto(title, artist, ranking, "billboard-japan");
-                            songs.add(song);
-                            log.info("Billboard Japan {}위 - \"{}\" by \"{}\" (백업방법)", ranking, title, artist);
-                        }
-                        
-                    } catch (Exception e) {
-                        log.warn("백업 방법 파싱 실패: {}", e.getMessage());
-                    }
-                }
-            }
-
-            // 중복 제거
-            Map<Integer, SongRequestDto> uniqueSongs = new HashMap<>();
-            for (SongRequestDto song : songs) {
-                uniqueSongs.put(song.getRanking(), song);
-            }
-
-            // 데이터베이스에 저장
-            for (SongRequestDto song : uniqueSongs.values()) {
-                songService.saveSong(song);
-            }
-
-            log.info("Billboard Japan 크롤링 완료! {}곡 저장됨", uniqueSongs.size());
-            
-            // 🔥 자동 데이터 정리 (크롤링 후)
-            songService.autoCleanupAfterCrawling();
+    // 논블로킹 크롤링 파이프라인 (CrawlEngine에서 여러 차트를 동시에 실행할 때 사용)
+    public Mono<CrawlResult> crawlAsync(ChartSource source) {
+        String chartId = source.getChartId();
+
+        return Mono.fromCallable(() -> loadState(chartId))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(previous -> source.fetch(
+                    previous.map(CrawlState::getEtag).orElse(null),
+                    previous.map(CrawlState::getLastModified).orElse(null))
+                // 파싱과 DB 저장은 블로킹 작업이므로 boundedElastic에서 처리
+                .publishOn(Schedulers.boundedElastic())
+                .map(page -> applyPage(source, previous.orElse(null), page)))
+            .switchIfEmpty(Mono.fromCallable(() -> {
+                log.error("{} HTML을 가져올 수 없습니다.", chartId);
+                return CrawlResult.failed(chartId, "빈 응답");
+            }))
+            .onErrorResume(e -> {
+                log.error("{} 크롤링 중 오류 발생", chartId, e);
+                return Mono.just(CrawlResult.failed(chartId, e.getMessage()));
+            });
+    }
 
-        } catch (Exception e) {
-            log.error("Billboard Japan 크롤링 중 오류 발생", e);
+    // 이전 크롤링 상태 (차트 데이터가 비어 있으면 조건부 요청 없이 전체를 다시 가져옴)
+    private Optional<CrawlState> loadState(String chartId) {
+        if (!songService.hasChart(chartId)) {
+            return Optional.empty();
         }
+        return crawlStateRepository.findById(chartId);
     }
 
-    public void crawlOriconChart() {
-        try {
-            log.info("Oricon 크롤링 시작");
-            
-            // 🔥 자동 데이터 정리: 크롤링 전에 기존 데이터 삭제
-            log.info("기존 Oricon 데이터 정리 중...");
-            int deletedCount = songService.cleanupByChart("oricon");
-            log.info("기존 데이터 {}개 정리 완료", deletedCount);
-            
-            String url = "https://www.oricon.co.jp/music/rankinglab/cos/2025-08-18/";
+    private CrawlResult applyPage(ChartSource source, CrawlState previous, FetchedPage page) {
+        String chartId = source.getChartId();
 
-            String html = webClient.get()
-                .uri(url)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-            if (html == null) {
-                log.error("Oricon HTML을 가져올 수 없습니다.");
-                return;
-            }
-
-            Document doc = Jsoup.parse(html);
-            Elements rankingItems = doc.select(".media-box");
-            List<SongRequestDto> songs = new ArrayList<>();
-
-            for (Element item : rankingItems) {
-                try {
-                    // 순위 추출
-                    Element rankElement = item.select("p.media-rank").first();
-                    if (rankElement == null) continue;
-
-                    Integer ranking = Integer.parseInt(rankElement.text().trim());
-
-                    // 제목 추출
-                    Element titleElement = item.select("li.media-title").first();
-                    if (titleElement == null) continue;
-
-                    String title = titleElement.text().trim();
-
-                    // 아티스트 추출
-                    Element artistElement = item.select("li.media-artist").first();
-                    if (artistElement == null) continue;
-
-                    String artist = artistElement.text().trim();
-
-                    if (!title.isEmpty() && !artist.isEmpty() && ranking <= 50) { // 1-50위만
-                        SongRequestDto song = new SongRequestDto(title, artist, ranking, "oricon");
-                        songs.add(song);
-
-                        log.info("Oricon {}위 - {} by {}", ranking, title, artist);
-                    }
-
-                } catch (Exception e) {
-                    log.warn("Oricon 데이터 파싱 실패: {}", e.getMessage());
-                }
+        if (page.isNotModified()) {
+            if (previous == null) {
+                return CrawlResult.failed(chartId, "조건 없는 요청에 304 응답");
             }
+            log.info("{} 차트 변경 없음 (304)", chartId);
+            saveState(chartId, previous, previous.getEtag(), previous.getLastModified(),
+                previous.getPageHash(), previous.getContentHash(), false);
+            return CrawlResult.notModified(chartId);
+        }
 
-            // 데이터베이스에 저장
-            for (SongRequestDto song : songs) {
-                songService.saveSong(song);
+        // 파서가 바뀌어도 다시 요청하지 않도록 원본 보관
+        rawPageArchive.store(chartId, source.getChartDate(), page);
+
+        String pageHash = null;
+        List<SongRequestDto> songs;
+        if (page.getRows() != null) {
+            // 스트리밍 모드는 응답을 읽으면서 이미 추출이 끝남
+            songs = page.getRows();
+        } else {
+            // 페이지가 바이트 단위로 같으면 파싱도 생략
+            pageHash = sha256(page.getHtml());
+            if (previous != null && pageHash.equals(previous.getPageHash())) {
+                log.info("{} 페이지 내용 동일, 파싱 생략", chartId);
+                saveState(chartId, previous, page.getEtag(), page.getLastModified(),
+                    pageHash, previous.getContentHash(), false);
+                return CrawlResult.unchanged(chartId);
             }
+            songs = source.parse(page.getHtml());
+        }
 
-            log.info("Oricon 크롤링 완료! {}곡 저장됨", songs.size());
-            
-            // 🔥 자동 데이터 정리 (크롤링 후)
-            songService.autoCleanupAfterCrawling();
+        if (songs.isEmpty()) {
+            log.warn("{} 파싱 결과가 없어 기존 데이터 유지", chartId);
+            return CrawlResult.failed(chartId, "파싱 결과 없음");
+        }
 
-        } catch (Exception e) {
-            log.error("Oricon 크롤링 중 오류 발생", e);
+        // 광고 등 차트 외 부분만 바뀐 경우 DB 저장 생략
+        String contentHash = hashRows(songs);
+        if (previous != null && contentHash.equals(previous.getContentHash())) {
+            log.info("{} 차트 내용 동일, 저장 생략", chartId);
+            saveState(chartId, previous, page.getEtag(), page.getLastModified(), pageHash, contentHash, false);
+            return CrawlResult.unchanged(chartId);
         }
+
+        int savedCount = crawlResultWriter.write(chartId, source.getChartDate(), songs,
+            stateOf(chartId, previous, page.getEtag(), page.getLastModified(), pageHash, contentHash, true));
+        log.info("{} 크롤링 완료! {}곡 저장됨", chartId, savedCount);
+        return CrawlResult.updated(chartId, savedCount);
+    }
+
+    private void saveState(String chartId, CrawlState previous, String etag, String lastModified,
+        String pageHash, String contentHash, boolean changed) {
+        crawlStateRepository.save(stateOf(chartId, previous, etag, lastModified, pageHash, contentHash, changed));
     }
 
-    // 매일 오전 9시에 Billboard Japan 크롤링
-    @Scheduled(cron = "0 0 9 * * *")
-    public void scheduledBillboardJapanCrawling() {
-        log.info("정기 Billboard Japan 크롤링 시작: {}", LocalDateTime.now());
-        crawlBillboardJapan();
+    private static CrawlState stateOf(String chartId, CrawlState previous, String etag, String lastModified,
+        String pageHash, String contentHash, boolean changed) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime changedAt = changed || previous == null ? now : previous.getChangedAt();
+        return CrawlState.builder()
+            .chartId(chartId)
+            .etag(etag)
+            .lastModified(lastModified)
+            .pageHash(pageHash)
+            .contentHash(contentHash)
+            .checkedAt(now)
+            .changedAt(changedAt)
+            .build();
     }
 
-    // 매일 오전 9시 30분에 Oricon 크롤링
-    @Scheduled(cron = "0 30 9 * * *")
-    public void scheduledOriconCrawling() {
-        log.info("정기 Oricon 크롤링 시작: {}", LocalDateTime.now());
-        crawlOriconChart();
+    // 순위/제목/아티스트만으로 만든 차트 내용 해시
+    private static String hashRows(List<SongRequestDto> songs) {
+        StringBuilder sb = new StringBuilder();
+        songs.stream()
+            .sorted(Comparator.comparing(SongRequestDto::getRanking))
+            .forEach(song -> sb.append(song.getRanking()).append('\t')
+                .append(song.getTitle()).append('\t')
+                .append(song.getArtist()).append('\n'));
+        return sha256(sb.toString());
     }
 
-    // 매주 일요일 오전 10시에 중복 데이터 정리
-    @Scheduled(cron = "0 0 10 * * SUN")
-    public void scheduledDataCleanup() {
-        log.info("정기 데이터 정리 시작: {}", LocalDateTime.now());
-        songService.autoCleanupAfterCrawling(); // 🔥 통합 자동 정리 사용
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,185 @@
+package com.example.jpopranker.crawler.service;
+
+import com.example.jpopranker.chart.dto.response.ChartEntryResponseDto;
+import com.example.jpopranker.chart.identity.SongIdentityIndex;
+import com.example.jpopranker.chart.service.ChartSnapshotService;
+import com.example.jpopranker.crawler.archive.RawPageArchive;
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.dto.ReparseRequestDto;
+import com.example.jpopranker.crawler.entity.RawPage;
+import com.example.jpopranker.crawler.job.ReparseJob;
+import com.example.jpopranker.crawler.repository.CrawlStateRepository;
+import com.example.jpopranker.crawler.repository.RawPageRepository;
+import com.example.jpopranker.crawler.source.ChartSource;
+import com.example.jpopranker.crawler.source.ChartSourceRegistry;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// 보관된 원본 페이지를 현재 파서로 다시 파싱해서 스냅샷을 고침 (사이트에 요청하지 않음)
+// 파싱 결과가 저장된 스냅샷과 같은 날짜는 건너뛰고, 달라진 날짜만 배치 단위로 다시 씀
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReparseService {
+
+    // 끝난 작업을 보관하는 시간
+    private static final long RETENTION_MINUTES = 60;
+
+    // 기간을 비워 두면 보관된 전체 페이지 대상
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final ChartSourceRegistry chartSourceRegistry;
+    private final ChartSnapshotService chartSnapshotService;
+    private final SongIdentityIndex songIdentityIndex;
+    private final RawPageRepository rawPageRepository;
+    private final RawPageArchive rawPageArchive;
+    private final CrawlStateRepository crawlStateRepository;
+    private final CrawlerProperties crawlerProperties;
+
+    private final Map<String, ReparseJob> jobs = new ConcurrentHashMap<>();
+
+    // 차트별 진행 중인 작업 (같은 차트는 한 번에 하나만)
+    private final Map<String, ReparseJob> activeJobs = new ConcurrentHashMap<>();
+
+    public synchronized ReparseJob submit(ReparseRequestDto request) {
+        ChartSource source = chartSourceRegistry.getSource(request.getChartName());
+        LocalDate from = request.getFrom() != null ? request.getFrom() : MIN_DATE;
+        LocalDate to = request.getTo() != null ? request.getTo() : MAX_DATE;
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("잘못된 기간: " + request.getFrom() + " ~ " + request.getTo());
+        }
+
+        ReparseJob activeJob = activeJobs.get(source.getChartId());
+        if (activeJob != null) {
+            log.info("{} 차트 재파싱이 이미 진행 중: {}", source.getChartId(), activeJob.getJobId());
+            return activeJob;
+        }
+
+        // 같은 날짜를 여러 번 가져온 경우 마지막으로 가져온 페이지만 사용
+        Map<LocalDate, RawPage> latestPages = new LinkedHashMap<>();
+        rawPageRepository.findByChartNameAndChartDateBetweenOrderByChartDateAscFetchedAtAsc(
+            source.getChartId(), from, to).forEach(page -> latestPages.put(page.getChartDate(), page));
+        if (latestPages.isEmpty()) {
+            throw new IllegalArgumentException(source.getChartId() + " 차트는 기간 안에 보관된 페이지가 없음");
+        }
+
+        List<RawPage> pages = List.copyOf(latestPages.values());
+        ReparseJob job = new ReparseJob(UUID.randomUUID().toString(), source.getChartId(),
+            request.getFrom(), request.getTo(), pages.size());
+        jobs.put(job.getJobId(), job);
+        activeJobs.put(source.getChartId(), job);
+        log.info("{} 차트 재파싱 등록: {} (페이지 {}개)", source.getChartId(), job.getJobId(), pages.size());
+        start(job, source, pages);
+        return job;
+    }
+
+    public ReparseJob getJob(String jobId) {
+        ReparseJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 재파싱 작업: " + jobId);
+        }
+        return job;
+    }
+
+    // 오래된 완료 작업 정리
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private void start(ReparseJob job, ChartSource source, List<RawPage> pages) {
+        CrawlerProperties.Archive config = crawlerProperties.getArchive();
+        String chartName = job.getChartName();
+
+        Flux.fromIterable(pages)
+            // 파일 읽기와 파싱은 동시에, 저장은 날짜순으로 (순위 변동이 직전 날짜 기준으로 계산되도록)
+            .flatMapSequential(page -> reparse(source, page), config.getReparseConcurrency())
+            .buffer(config.getReparseBatchSize())
+            .concatMap(batch -> Mono.fromRunnable(() -> writeBatch(job, batch))
+                .subscribeOn(Schedulers.boundedElastic()))
+            .then()
+            .doFinally(signal -> activeJobs.remove(chartName, job))
+            .subscribe(null, e -> {
+                log.error("{} 차트 재파싱 실패: {}", chartName, job.getJobId(), e);
+                job.fail(e);
+            }, () -> {
+                // 현재 차트도 새 파서로 다시 파싱되도록 페이지 해시를 지움 (다음 크롤링에서 같은 페이지라도 건너뛰지 않음)
+                if (job.getRewrittenCount() > 0) {
+                    crawlStateRepository.deleteById(chartName);
+                }
+                job.complete();
+                log.info("{} 차트 재파싱 완료: {} - 다시 씀 {}개, 같음 {}개, 실패 {}개", chartName, job.getJobId(),
+                    job.getRewrittenCount(), job.getUnchangedCount(), job.getFailedDates().size());
+            });
+    }
+
+    private Mono<ReparsedChart> reparse(ChartSource source, RawPage page) {
+        return Mono.fromCallable(() -> rawPageArchive.load(page.getContentHash()))
+            .subscribeOn(Schedulers.boundedElastic())
+            // 파싱은 CPU 작업이므로 parallel에서 처리
+            .publishOn(Schedulers.parallel())
+            .map(html -> new ReparsedChart(page.getChartDate(), source.parse(html)))
+            .onErrorResume(e -> {
+                log.warn("{} {} 보관 페이지 재파싱 실패: {}", source.getChartId(), page.getChartDate(), e.getMessage());
+                return Mono.just(new ReparsedChart(page.getChartDate(), List.of()));
+            });
+    }
+
+    // 달라진 날짜의 스냅샷만 한 트랜잭션으로 다시 저장
+    private void writeBatch(ReparseJob job, List<ReparsedChart> batch) {
+        SortedMap<LocalDate, List<SongRequestDto>> changed = new TreeMap<>();
+        List<LocalDate> failed = new ArrayList<>();
+        int unchanged = 0;
+        for (ReparsedChart chart : batch) {
+            if (chart.songs().isEmpty()) {
+                failed.add(chart.chartDate());
+            } else if (isUnchanged(job.getChartName(), chart)) {
+                unchanged++;
+            } else {
+                changed.put(chart.chartDate(), chart.songs());
+            }
+        }
+        int rewritten = chartSnapshotService.recordSnapshotsIsolated(job.getChartName(), changed, failed);
+        job.recordBatch(rewritten, unchanged, failed);
+    }
+
+    // 순위와 곡(정규화한 제목/아티스트)이 모두 같으면 같은 차트로 봄
+    private boolean isUnchanged(String chartName, ReparsedChart chart) {
+        Set<String> stored = chartSnapshotService.getChart(chartName, chart.chartDate()).stream()
+            .map(this::entryKey)
+            .collect(Collectors.toSet());
+        Set<String> parsed = chart.songs().stream()
+            .map(song -> song.getRanking() + "|" + songIdentityIndex.keyOf(song.getTitle(), song.getArtist()))
+            .collect(Collectors.toSet());
+        return stored.equals(parsed);
+    }
+
+    private String entryKey(ChartEntryResponseDto entry) {
+        return entry.getRanking() + "|" + songIdentityIndex.keyOf(entry.getTitle(), entry.getArtist());
+    }
+
+    private record ReparsedChart(LocalDate chartDate, List<SongRequestDto> songs) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.jpopranker.crawler.source;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.http.CrawlerHttpPolicy;
+import com.example.jpopranker.crawler.parser.BillboardJapanFallbackRowParser;
+import com.example.jpopranker.crawler.parser.BillboardJapanRowParser;
+import com.example.jpopranker.crawler.parser.ParserStrategies;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+// Billboard Japan Hot 100
+@Slf4j
+@Component
+public class BillboardJapanChartSource extends HtmlChartSource {
+
+    public static final String CHART_ID = "billboard-japan";
+
+    // 기본 방법이 안 되면 백업 방법 (레이아웃이 바뀌면 백업 방법을 먼저 시도하게 됨)
+    private final ParserStrategies parserStrategies = new ParserStrategies(List.of(
+        new BillboardJapanRowParser(),
+        new BillboardJapanFallbackRowParser()));
+
+    public BillboardJapanChartSource(WebClient webClient, CrawlerProperties crawlerProperties,
+        CrawlerHttpPolicy httpPolicy) {
+        super(webClient, crawlerProperties, httpPolicy);
+    }
+
+    @Override
+    public String getChartId() {
+        return CHART_ID;
+    }
+
+    @Override
+    public List<SongRequestDto> parse(String html) {
+        Document doc = Jsoup.parse(html);
+        log.info("HTML 파싱 완료, 데이터 추출 시작");
+
+        List<SongRequestDto> songs = postProcessRows(extractRows(doc));
+
+        log.info("Billboard Japan {}곡 추출", songs.size());
+        return songs;
+    }
+
+    // 중복 제거 (같은 순위는 마지막 것 사용)
+    @Override
+    protected List<SongRequestDto> postProcessRows(List<SongRequestDto> rows) {
+        Map<Integer, SongRequestDto> uniqueSongs = new LinkedHashMap<>();
+        for (SongRequestDto song : rows) {
+            uniqueSongs.put(song.getRanking(), song);
+        }
+        return new ArrayList<>(uniqueSongs.values());
+    }
+
+    @Override
+    protected ParserStrategies getParserStrategies() {
+        return parserStrategies;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.jpopranker.crawler.source;
+
+import com.example.jpopranker.crawler.parser.ParserStrategies;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.time.LocalDate;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+// 차트 사이트 하나를 나타내는 확장 포인트
+// 새 차트를 추가할 때는 이 인터페이스를 구현한 Bean만 추가하면 됨
+public interface ChartSource {
+
+    // 차트 식별자 (songs.chart_name에 저장되는 값, crawler.charts.<id> 설정 키)
+    String getChartId();
+
+    // 차트 페이지 HTML 가져오기
+    // 이전 응답의 ETag/Last-Modified를 넘기면 조건부 요청을 보내고, 변경이 없으면 notModified 반환
+    Mono<FetchedPage> fetch(String etag, String lastModified);
+
+    // HTML에서 곡 목록 추출
+    List<SongRequestDto> parse(String html);
+
+    // 과거 차트 페이지 가져오기 (백필용)
+    default Mono<FetchedPage> fetchArchive(LocalDate chartDate) {
+        return Mono.error(new UnsupportedOperationException(getChartId() + " 차트는 과거 차트 조회를 지원하지 않음"));
+    }
+
+    // from~to 사이의 과거 차트 날짜 (차트 발표 주기에 맞춤, 지원하지 않으면 빈 목록)
+    default List<LocalDate> getArchiveDates(LocalDate from, LocalDate to) {
+        return List.of();
+    }
+
+    // 지금 크롤링하는 차트의 기준 날짜 (스냅샷 키, 주간 차트는 해당 주의 날짜)
+    default LocalDate getChartDate() {
+        return LocalDate.now();
+    }
+
+    // 행 추출 방법별 시도/성공 횟수 (여러 방법을 쓰지 않는 소스는 빈 목록)
+    default List<ParserStrategies.Stats> getParserStats() {
+        return List.of();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.jpopranker.crawler.source;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 등록된 ChartSource Bean들과 crawler.charts.* 설정을 묶어서 관리
+@Slf4j
+@Component
+public class ChartSourceRegistry {
+
+    private final Map<String, ChartSource> sources = new LinkedHashMap<>();
+    private final CrawlerProperties crawlerProperties;
+
+    public ChartSourceRegistry(List<ChartSource> chartSources, CrawlerProperties crawlerProperties) {
+        this.crawlerProperties = crawlerProperties;
+        for (ChartSource source : chartSources) {
+            if (sources.putIfAbsent(source.getChartId(), source) != null) {
+                throw new IllegalStateException("중복된 차트 ID: " + source.getChartId());
+            }
+        }
+        log.info("등록된 차트 소스: {}", sources.keySet());
+    }
+
+    public Optional<ChartSource> findSource(String chartId) {
+        return Optional.ofNullable(sources.get(chartId));
+    }
+
+    public ChartSource getSource(String chartId) {
+        return findSource(chartId)
+            .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 차트: " + chartId));
+    }
+
+    public CrawlerProperties.Chart getConfig(String chartId) {
+        return crawlerProperties.getChart(chartId);
+    }
+
+    // 활성화된 차트 소스 (우선순위 높은 순)
+    public List<ChartSource> getEnabledSources() {
+        return sources.values().stream()
+            .filter(source -> getConfig(source.getChartId()).isEnabled())
+            .sorted(Comparator.comparingInt((ChartSource source) -> getConfig(source.getChartId()).getPriority())
+                .reversed())
+            .toList();
+    }
+}
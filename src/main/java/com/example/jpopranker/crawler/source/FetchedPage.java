@@ -0,0 +1,40 @@
+package com.example.jpopranker.crawler.source;
+
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 차트 페이지 요청 결과
+// 304면 notModified, 일반 모드는 html, 스트리밍 모드는 이미 추출된 rows를 가짐
+// 스트리밍 모드의 html은 원본 보관이 켜져 있을 때만 있음 (그때는 본문을 끝까지 받음)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FetchedPage {
+
+    private final boolean notModified;
+
+    private final String url;
+
+    private final String html;
+
+    private final List<SongRequestDto> rows;
+
+    private final String etag;
+
+    private final String lastModified;
+
+    public static FetchedPage notModified() {
+        return new FetchedPage(true, null, null, null, null, null);
+    }
+
+    public static FetchedPage of(String url, String html, String etag, String lastModified) {
+        return new FetchedPage(false, url, html, null, etag, lastModified);
+    }
+
+    public static FetchedPage parsed(String url, List<SongRequestDto> rows, String html, String etag,
+        String lastModified) {
+        return new FetchedPage(false, url, html, rows, etag, lastModified);
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.jpopranker.crawler.source;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.http.CrawlerHttpPolicy;
+import com.example.jpopranker.crawler.parser.ChartRow;
+import com.example.jpopranker.crawler.parser.ChartRowParser;
+import com.example.jpopranker.crawler.parser.ParserStrategies;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// WebClient로 설정된 URL의 HTML을 가져오는 공통 구현
+@Slf4j
+public abstract class HtmlChartSource implements ChartSource {
+
+    // 스트리밍 파싱 시 한번에 요청할 DataBuffer 개수
+    private static final int STREAM_DEMAND = 16;
+
+    protected final WebClient webClient;
+    protected final CrawlerProperties crawlerProperties;
+    protected final CrawlerHttpPolicy httpPolicy;
+
+    protected HtmlChartSource(WebClient webClient, CrawlerProperties crawlerProperties, CrawlerHttpPolicy httpPolicy) {
+        this.webClient = webClient;
+        this.crawlerProperties = crawlerProperties;
+        this.httpPolicy = httpPolicy;
+    }
+
+    @Override
+    public Mono<FetchedPage> fetch(String etag, String lastModified) {
+        return fetchUrl(resolveUrl(getChartConfig().getUrl()), etag, lastModified);
+    }
+
+    @Override
+    public Mono<FetchedPage> fetchArchive(LocalDate chartDate) {
+        String archiveUrl = getChartConfig().getArchiveUrl();
+        if (archiveUrl == null || archiveUrl.isBlank()) {
+            return ChartSource.super.fetchArchive(chartDate);
+        }
+        return fetchUrl(resolveArchiveUrl(archiveUrl, chartDate), null, null);
+    }
+
+    @Override
+    public List<LocalDate> getArchiveDates(LocalDate from, LocalDate to) {
+        CrawlerProperties.Chart config = getChartConfig();
+        if (config.getArchiveUrl() == null || config.getArchiveUrl().isBlank()) {
+            return List.of();
+        }
+        LocalDate date = config.getWeekStart() != null
+            ? from.with(TemporalAdjusters.nextOrSame(config.getWeekStart()))
+            : from;
+        List<LocalDate> dates = new ArrayList<>();
+        for (; !date.isAfter(to); date = date.plus(config.getArchiveInterval())) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private Mono<FetchedPage> fetchUrl(String url, String etag, String lastModified) {
+        return fetchPage(url, etag, lastModified, getChartConfig().isStreaming());
+    }
+
+    // 응답을 받는 대로 행을 추출하고, 순위가 top-N을 넘으면 남은 응답은 읽지 않음
+    // readFully면 추출이 끝나도 본문을 끝까지 받음 (원본 페이지 보관용)
+    public Flux<SongRequestDto> parseStream(Flux<DataBuffer> body, Charset charset, boolean readFully) {
+        return Flux.<SongRequestDto>create(sink -> {
+            int topN = getTopN();
+            int count = 0;
+            ChartRowParser rowParser = getParserStrategies().preferred();
+            try (InputStream in = DataBufferUtils.subscriberInputStream(body, STREAM_DEMAND);
+                 StreamParser streamParser = new StreamParser(Parser.htmlParser())) {
+                streamParser.parse(new InputStreamReader(in, charset), "");
+
+                Element row;
+                while (!sink.isCancelled() && (row = streamParser.selectNext(rowParser.rowEvaluator())) != null) {
+                    ChartRow chartRow = rowParser.parse(row);
+                    row.remove(); // 처리한 행은 DOM에서 떼어내서 메모리에 쌓이지 않게 함
+                    if (chartRow == null) continue;
+                    // DOM 추출과 같이 순위로만 끊음 (같은 순위가 여러 행이면 postProcessRows에서 정리)
+                    if (chartRow.rank() > topN) break;
+
+                    sink.next(chartRow.toRequestDto(getChartId()));
+                    count++;
+                }
+                if (readFully) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+                streamParser.stop();
+                getParserStrategies().record(rowParser, count > 0);
+                sink.complete();
+            } catch (Exception e) {
+                sink.error(e);
+            }
+            log.info("{} 스트리밍 추출 완료: {}곡", getChartId(), count);
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // URL 템플릿 치환이 필요한 차트는 재정의 (예: 날짜가 들어가는 URL)
+    protected String resolveUrl(String url) {
+        return url;
+    }
+
+    // 과거 차트 URL 템플릿 치환
+    protected String resolveArchiveUrl(String url, LocalDate chartDate) {
+        return url.replace("{date}", chartDate.toString())
+            .replace("{year}", String.valueOf(chartDate.getYear()))
+            .replace("{month}", String.format("%02d", chartDate.getMonthValue()))
+            .replace("{day}", String.format("%02d", chartDate.getDayOfMonth()));
+    }
+
+    // 차트의 행 추출 방법들
+    // 스트리밍 파싱은 마지막으로 성공한 방법만 사용하고, 결과가 없으면 받은 본문을 parse()로 다시 추출
+    protected abstract ParserStrategies getParserStrategies();
+
+    @Override
+    public List<ParserStrategies.Stats> getParserStats() {
+        return getParserStrategies().getStats();
+    }
+
+    // 추출한 행 후처리 (DOM 추출과 스트리밍 추출 모두 적용, 차트별 중복 제거 등)
+    protected List<SongRequestDto> postProcessRows(List<SongRequestDto> rows) {
+        return rows;
+    }
+
+    // 마지막으로 성공한 방법부터 시도해서 DOM에서 행들을 추출 (어느 방법이든 같은 topN 적용)
+    protected List<SongRequestDto> extractRows(Element root) {
+        int topN = getTopN();
+        return getParserStrategies().extract(rowParser -> extractRows(root, rowParser, topN));
+    }
+
+    // DOM에서 행들을 추출 (순위가 topN을 넘으면 중단)
+    private List<SongRequestDto> extractRows(Element root, ChartRowParser rowParser, int topN) {
+        List<SongRequestDto> songs = new ArrayList<>(topN);
+        int skipped = 0;
+        for (Element row : root.select(rowParser.rowEvaluator())) {
+            ChartRow chartRow = rowParser.parse(row);
+            if (chartRow == null) {
+                skipped++;
+                continue;
+            }
+            if (chartRow.rank() > topN) break;
+            songs.add(chartRow.toRequestDto(getChartId()));
+        }
+        log.debug("{} 행 추출: {}곡, 건너뛴 행 {}개", getChartId(), songs.size(), skipped);
+        return songs;
+    }
+
+    protected CrawlerProperties.Chart getChartConfig() {
+        return crawlerProperties.getChart(getChartId());
+    }
+
+    protected int getTopN() {
+        return getChartConfig().getTopN();
+    }
+
+    // 제한 시간/재시도/차단기는 요청마다 적용
+    private Mono<FetchedPage> fetchPage(String url, String etag, String lastModified, boolean streaming) {
+        return httpPolicy.apply(getChartId(), webClient.get()
+            .uri(url)
+            .headers(headers -> {
+                if (etag != null) {
+                    headers.setIfNoneMatch(etag);
+                }
+                if (lastModified != null) {
+                    headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                }
+            })
+            .exchangeToMono(response -> {
+                if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                    return response.releaseBody().thenReturn(FetchedPage.notModified());
+                }
+                if (response.statusCode().isError()) {
+                    return response.<FetchedPage>createError();
+                }
+                HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+                String responseEtag = responseHeaders.getETag();
+                String responseLastModified = responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+
+                if (streaming) {
+                    Charset charset = Optional.ofNullable(responseHeaders.getContentType())
+                        .map(MediaType::getCharset)
+                        .orElse(StandardCharsets.UTF_8);
+                    // 파서가 읽은 부분을 그대로 복사해 둠 (전체 파싱 대체, 원본 페이지 보관용)
+                    // 원본 보관이 꺼져 있으면 top-N 이후는 받지 않으므로 앞부분만 남음
+                    boolean readFully = crawlerProperties.getArchive().isEnabled();
+                    ByteArrayOutputStream received = new ByteArrayOutputStream();
+                    Flux<DataBuffer> body = response.bodyToFlux(DataBuffer.class)
+                        .doOnNext(buffer -> copyTo(buffer, received));
+                    return parseStream(body, charset, readFully)
+                        .collectList()
+                        .map(rows -> {
+                            // 추출된 행이 없으면 (레이아웃 변경 등) 본문을 끝까지 읽은 상태이므로
+                            // 다시 요청하지 않고 받은 본문으로 모든 방법을 시도하는 전체 파싱
+                            if (rows.isEmpty()) {
+                                return FetchedPage.of(url, received.toString(charset), responseEtag,
+                                    responseLastModified);
+                            }
+                            // 잘린 앞부분은 보관/재파싱에 쓰지 않음
+                            return FetchedPage.parsed(url, postProcessRows(rows),
+                                readFully ? received.toString(charset) : null, responseEtag, responseLastModified);
+                        });
+                }
+                return response.bodyToMono(String.class)
+                    .map(html -> FetchedPage.of(url, html, responseEtag, responseLastModified));
+            }));
+    }
+
+    private static void copyTo(DataBuffer buffer, ByteArrayOutputStream out) {
+        ByteBuffer bytes = ByteBuffer.allocate(buffer.readableByteCount());
+        buffer.toByteBuffer(bytes);
+        out.write(bytes.array(), 0, bytes.capacity());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.jpopranker.crawler.source;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.crawler.http.CrawlerHttpPolicy;
+import com.example.jpopranker.crawler.parser.OriconRowParser;
+import com.example.jpopranker.crawler.parser.ParserStrategies;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+// Oricon 주간 합산 싱글 차트
+@Slf4j
+@Component
+public class OriconChartSource extends HtmlChartSource {
+
+    public static final String CHART_ID = "oricon";
+
+    private final ParserStrategies parserStrategies = new ParserStrategies(List.of(new OriconRowParser()));
+
+    public OriconChartSource(WebClient webClient, CrawlerProperties crawlerProperties,
+        CrawlerHttpPolicy httpPolicy) {
+        super(webClient, crawlerProperties, httpPolicy);
+    }
+
+    @Override
+    public String getChartId() {
+        return CHART_ID;
+    }
+
+    // 주간 차트는 이번 주 월요일 날짜 기준
+    @Override
+    public LocalDate getChartDate() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    // 주간 차트 URL의 {date}를 차트 날짜로 치환
+    @Override
+    protected String resolveUrl(String url) {
+        return url.replace("{date}", getChartDate().toString());
+    }
+
+    @Override
+    public List<SongRequestDto> parse(String html) {
+        Document doc = Jsoup.parse(html);
+        List<SongRequestDto> songs = extractRows(doc);
+        log.info("Oricon {}곡 추출", songs.size());
+        return songs;
+    }
+
+    @Override
+    protected ParserStrategies getParserStrategies() {
+        return parserStrategies;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.jpopranker.song.composite;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CompositeChartProperties.class)
+public class CompositeChartConfig {
+}
@@ -0,0 +1,41 @@
+package com.example.jpopranker.song.composite;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.properties의 composite.* 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "composite")
+public class CompositeChartProperties {
+
+    // 합산 차트 사용 여부
+    private boolean enabled = true;
+
+    // 합산 차트 이름 (/songs/chart/{chartName}으로 조회)
+    private String chartName = "jpop-ranker";
+
+    // 합산 차트에 올릴 최대 순위
+    private int topN = 100;
+
+    // 원본 차트별 가중치 (키: 차트 이름)
+    private Map<String, Source> sources = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Source {
+
+        // 순위 점수에 곱하는 값
+        private double weight = 1.0;
+
+        // 점수를 주는 최대 순위 (1위 = maxRank점, maxRank위 = 1점)
+        private int maxRank = 100;
+
+        public double points(int ranking) {
+            return ranking < 1 || ranking > maxRank ? 0 : weight * (maxRank + 1 - ranking);
+        }
+    }
+}
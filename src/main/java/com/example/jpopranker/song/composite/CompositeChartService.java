@@ -0,0 +1,272 @@
+package com.example.jpopranker.song.composite;
+
+import com.example.jpopranker.song.entity.CompositeRanking;
+import com.example.jpopranker.song.entity.RankMovement;
+import com.example.jpopranker.song.entity.Song;
+import com.example.jpopranker.song.event.ChartDataReplacedEvent;
+import com.example.jpopranker.song.event.ChartsReloadedEvent;
+import com.example.jpopranker.song.repository.CompositeRankingRepository;
+import com.example.jpopranker.song.repository.SongBatchRepository;
+import com.example.jpopranker.song.store.ChartData;
+import com.example.jpopranker.song.store.ChartPayloadWriter;
+import com.example.jpopranker.song.store.ChartStore;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// 여러 차트의 순위를 가중치 점수로 합산한 차트
+// 곡별 점수를 메모리에 들고 있다가 원본 차트가 바뀌면 점수가 달라진 곡만 다시 계산
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompositeChartService {
+
+    // 점수 높은 순, 같으면 곡 ID 순
+    private static final Comparator<Entry> RANK_ORDER = Comparator.comparingDouble(Entry::getScore).reversed()
+        .thenComparingLong(Entry::getSongId);
+
+    private final CompositeChartProperties properties;
+    private final ChartStore chartStore;
+    private final ChartPayloadWriter payloadWriter;
+    private final SongBatchRepository songBatchRepository;
+    private final CompositeRankingRepository compositeRankingRepository;
+
+    // 곡 ID(song_identities.id) -> 합산 점수
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // entries를 순위 순으로 정렬해 둔 집합 (점수를 바꿀 때는 빼고 다시 넣음)
+    private final TreeSet<Entry> ranked = new TreeSet<>(RANK_ORDER);
+
+    // 원본 차트별로 마지막에 반영한 점수 (차트 이름 -> 곡 ID -> 점수)
+    private final Map<String, Map<Long, Double>> sourcePoints = new HashMap<>();
+
+    // 직전에 게시한 합산 차트 순위와 최고 순위 (순위 변동 표시용, 처음 게시할 때 composite_rankings에서 불러옴)
+    private Map<Long, Integer> previousRankings;
+    private final Map<Long, Integer> peakRankings = new HashMap<>();
+
+    // 전체 차트를 다시 불러오는 중에 바뀌어서 아직 게시하지 않은 점수가 있는지
+    private boolean unpublished;
+
+    // 합산 차트는 DB에서 불러오지 않도록 등록 (chart_versions에는 버전 번호만 기록)
+    @PostConstruct
+    public void register() {
+        if (properties.isEnabled()) {
+            chartStore.registerDerived(properties.getChartName());
+        }
+    }
+
+    // 원본 차트가 교체될 때마다 호출 (ChartStore가 교체를 한 번에 하나씩 하므로 순서대로 들어옴)
+    // 전체를 다시 불러오는 중이면 점수만 반영하고 게시는 onChartsReloaded에서 한 번만
+    @EventListener
+    public synchronized void onChartReplaced(ChartDataReplacedEvent event) {
+        CompositeChartProperties.Source source = properties.getSources().get(event.getChartName());
+        if (!properties.isEnabled() || source == null || event.getChartName().equals(properties.getChartName())) {
+            return;
+        }
+
+        ChartData chart = event.getCurrent();
+        Map<Long, Double> points = new HashMap<>();
+        Map<Long, Integer> rows = new HashMap<>();
+        for (int i = 0; i < chart.size(); i++) {
+            long songId = chart.getSongIdentityId(i);
+            Integer ranking = chart.getRanking(i);
+            // 곡 ID가 없는 행은 다른 차트와 묶을 수 없으므로 제외
+            if (songId == 0 || ranking == null) {
+                continue;
+            }
+            // 같은 곡이 여러 번 있으면(표기 차이로 따로 저장된 경우) 높은 순위만 반영
+            double songPoints = source.points(ranking);
+            if (songPoints > 0 && songPoints > points.getOrDefault(songId, 0.0)) {
+                points.put(songId, songPoints);
+                rows.put(songId, i);
+            }
+        }
+
+        // 점수는 그대로여도 차트인 주 수는 바뀔 수 있으므로 이미 있는 곡은 따로 갱신
+        boolean weeksChanged = false;
+        for (Map.Entry<Long, Integer> row : rows.entrySet()) {
+            Entry entry = entries.get(row.getKey());
+            if (entry != null) {
+                weeksChanged |= entry.updateWeeks(event.getChartName(), chart.getWeeksOnChart(row.getValue()));
+            }
+        }
+
+        Map<Long, Double> previousPoints = sourcePoints.getOrDefault(event.getChartName(), Map.of());
+        Set<Long> affected = new HashSet<>();
+        points.forEach((songId, value) -> {
+            if (!value.equals(previousPoints.get(songId))) {
+                affected.add(songId);
+            }
+        });
+        previousPoints.keySet().stream()
+            .filter(songId -> !points.containsKey(songId))
+            .forEach(affected::add);
+        sourcePoints.put(event.getChartName(), points);
+        if (affected.isEmpty() && !weeksChanged) {
+            return;
+        }
+
+        for (Long songId : affected) {
+            Entry entry = entries.get(songId);
+            if (entry != null) {
+                ranked.remove(entry);
+            } else {
+                entry = new Entry(songId);
+            }
+
+            Double value = points.get(songId);
+            if (value != null) {
+                entry.points.put(event.getChartName(), value);
+                int row = rows.get(songId);
+                entry.title = chart.getTitle(row);
+                entry.artist = chart.getArtist(row);
+                entry.updateWeeks(event.getChartName(), chart.getWeeksOnChart(row));
+            } else {
+                entry.points.remove(event.getChartName());
+                entry.weeks.remove(event.getChartName());
+            }
+
+            if (entry.points.isEmpty()) {
+                entries.remove(songId);
+                continue;
+            }
+            entry.score = entry.points.values().stream().mapToDouble(Double::doubleValue).sum();
+            entries.put(songId, entry);
+            ranked.add(entry);
+        }
+        log.debug("{} 차트 변경으로 합산 점수 {}곡 재계산", event.getChartName(), affected.size());
+        if (event.isReload()) {
+            unpublished = true;
+            return;
+        }
+        publish();
+    }
+
+    // 모든 원본 차트를 반영한 뒤 게시 (원본 차트 하나만 반영된 중간 상태는 내보내지 않음)
+    @EventListener
+    public synchronized void onChartsReloaded(ChartsReloadedEvent event) {
+        if (properties.isEnabled() && unpublished) {
+            publish();
+        }
+    }
+
+    // 상위 N곡을 합산 차트의 새 버전으로 게시
+    private void publish() {
+        if (previousRankings == null) {
+            loadRankings();
+        }
+        unpublished = false;
+
+        List<Entry> top = ranked.stream().limit(properties.getTopN()).toList();
+        Map<Long, Integer> rankings = new HashMap<>();
+        List<RankMovement> movements = new ArrayList<>(top.size());
+        for (Entry entry : top) {
+            int ranking = rankings.size() + 1;
+            rankings.put(entry.songId, ranking);
+            movements.add(movement(entry, ranking));
+        }
+
+        // 버전 번호는 chart_versions에 이어서 기록 (재시작해도 클라이언트가 가진 버전과 겹치지 않음)
+        long version = songBatchRepository.publishDerivedChart(properties.getChartName(), rankings, peakRankings);
+        previousRankings = rankings;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Song> songs = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            Entry entry = top.get(i);
+            songs.add(Song.builder()
+                .id(entry.songId)
+                .title(entry.title)
+                .artist(entry.artist)
+                .ranking(i + 1)
+                .chartName(properties.getChartName())
+                .chartDate(now)
+                .chartVersion(version)
+                .songIdentityId(entry.songId)
+                .movement(movements.get(i))
+                .createdAt(now)
+                .build());
+        }
+        chartStore.publish(ChartData.of(properties.getChartName(), version, now, songs, payloadWriter));
+    }
+
+    // 마지막으로 게시한 순위와 최고 순위 (재시작 후 첫 게시에서 모든 곡이 신규 진입으로 보이지 않도록)
+    private void loadRankings() {
+        Map<Long, Integer> rankings = new HashMap<>();
+        for (CompositeRanking row : compositeRankingRepository.findByChartName(properties.getChartName())) {
+            peakRankings.merge(row.getSongIdentityId(), row.getPeakRanking(), Math::min);
+            if (row.getRanking() != null) {
+                rankings.put(row.getSongIdentityId(), row.getRanking());
+            }
+        }
+        previousRankings = rankings;
+        log.info("{} 합산 차트 순위 기준 {}곡 불러옴 (직전 차트 {}곡)",
+            properties.getChartName(), peakRankings.size(), rankings.size());
+    }
+
+    // 직전 합산 차트 대비 순위 변동
+    private RankMovement movement(Entry entry, int ranking) {
+        long songId = entry.songId;
+        Integer previousRanking = previousRankings.get(songId);
+        Integer previousPeak = peakRankings.get(songId);
+        int peak = previousPeak != null ? Math.min(previousPeak, ranking) : ranking;
+        peakRankings.put(songId, peak);
+        return RankMovement.builder()
+            .previousRanking(previousRanking)
+            .rankDelta(previousRanking != null ? previousRanking - ranking : null)
+            .peakRanking(peak)
+            .weeksOnChart(entry.weeksOnChart())
+            .newEntry(previousPeak == null)
+            .reEntry(previousRanking == null && previousPeak != null)
+            .build();
+    }
+
+    private static final class Entry {
+
+        private final long songId;
+        private String title;
+        private String artist;
+        private double score;
+
+        // 원본 차트별 점수 (차트 이름 -> 점수)
+        private final Map<String, Double> points = new HashMap<>();
+
+        // 원본 차트별 차트인 주 수 (원본 차트에 값이 없으면 빠짐)
+        private final Map<String, Integer> weeks = new HashMap<>();
+
+        private Entry(long songId) {
+            this.songId = songId;
+        }
+
+        private long getSongId() {
+            return songId;
+        }
+
+        private double getScore() {
+            return score;
+        }
+
+        // 값이 바뀌면 true
+        private boolean updateWeeks(String chartName, Integer value) {
+            Integer previous = value != null ? weeks.put(chartName, value) : weeks.remove(chartName);
+            return !Objects.equals(previous, value);
+        }
+
+        // 합산 차트의 차트인 주 수는 원본 차트 중 가장 긴 값
+        private Integer weeksOnChart() {
+            return weeks.values().stream().max(Integer::compare).orElse(null);
+        }
+    }
+}
@@ -1,23 +1,41 @@
 package com.example.jpopranker.song.controller;
 
 import com.example.jpopranker.song.dto.request.SongRequestDto;
+import com.example.jpopranker.song.dto.response.ChartChangesResponseDto;
+import com.example.jpopranker.song.dto.response.SongPageResponseDto;
 import com.example.jpopranker.song.dto.response.SongResponseDto;
+import com.example.jpopranker.song.dto.response.SongSearchResponseDto;
+import com.example.jpopranker.song.dto.response.SongStatsResponseDto;
 import com.example.jpopranker.song.entity.Song;
 import com.example.jpopranker.song.service.SongService;
+import com.example.jpopranker.song.store.ChartPayload;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequestMapping("/songs")
@@ -25,23 +43,68 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Songs", description = "음악 차트 데이터 관리 API")
 public class SongController {
 
+    private static final String CHART_VERSION_HEADER = "X-Chart-Version";
+
     private final SongService songService;
 
-    @Operation(summary = "전체 곡 목록 조회", description = "데이터베이스의 모든 곡을 조회합니다.")
+    @Operation(summary = "전체 곡 목록 조회", description = "모든 차트의 현재 곡을 id 순으로 페이지 단위 조회합니다.")
+    @Parameter(name = "cursor", description = "이전 페이지의 nextCursor (첫 페이지는 생략)", example = "0")
+    @Parameter(name = "size", description = "페이지 크기 (최대 1000)", example = "100")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
-    public List<SongResponseDto> getAllSongs() {
-        return songService.getAllSongs();
+    public SongPageResponseDto getAllSongs(@RequestParam(defaultValue = "0") long cursor,
+        @RequestParam(defaultValue = "100") int size) {
+        return songService.getSongs(cursor, size);
+    }
+
+    @Operation(summary = "곡 검색", description = "제목/아티스트로 곡을 검색합니다. 일부만 입력해도 되고 전각/반각 차이는 무시합니다.")
+    @Parameter(name = "q", description = "검색어", example = "アイドル")
+    @Parameter(name = "limit", description = "최대 결과 수 (최대 100)", example = "20")
+    @GetMapping("/search")
+    public List<SongSearchResponseDto> searchSongs(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        return songService.search(q, limit);
+    }
+
+    @Operation(summary = "곡 통계 조회", description = "차트별 곡 수, 현재 버전, 마지막 변경 시각을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공")
+    })
+    @GetMapping("/stats")
+    public SongStatsResponseDto getStats() {
+        return songService.getStats();
     }
 
-    @Operation(summary = "차트별 곡 목록 조회", description = "특정 차트의 곡들을 랭킹 순으로 조회합니다.")
+    @Operation(summary = "차트별 곡 목록 조회", description = "특정 차트의 곡들을 랭킹 순으로 조회합니다. ETag가 같으면 304를 반환합니다.")
     @Parameter(name = "chartName", description = "차트 이름 (예: billboard-japan, oricon)", example = "billboard-japan")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = SongResponseDto.class)))),
+            @ApiResponse(responseCode = "304", description = "변경 없음")
+    })
     @GetMapping("/chart/{chartName}")
-    public List<SongResponseDto> getSongsByChart(@PathVariable String chartName) {
-        return songService.getSongsByChart(chartName);
+    public ResponseEntity<byte[]> getSongsByChart(@PathVariable String chartName,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toResponse(songService.getChartPayload(chartName), ifNoneMatch, acceptEncoding);
+    }
+
+    @Operation(summary = "차트 변경분 조회", description = "클라이언트가 가진 버전 이후 새로 들어온 곡, 순위가 바뀐 곡, 빠진 곡만 조회합니다. "
+        + "버전이 너무 오래되었으면 전체 목록(full=true)을 반환합니다.")
+    @Parameter(name = "chartName", description = "차트 이름 (예: billboard-japan, oricon)", example = "billboard-japan")
+    @Parameter(name = "since", description = "클라이언트가 가진 차트 버전 (X-Chart-Version 헤더 값)", example = "3")
+    @GetMapping("/chart/{chartName}/changes")
+    public ChartChangesResponseDto getChartChanges(@PathVariable String chartName, @RequestParam long since) {
+        return songService.getChartChanges(chartName, since);
+    }
+
+    @Operation(summary = "차트 변경 구독", description = "크롤링으로 차트가 바뀔 때마다 변경분(새 곡, 순위 변동, 빠진 곡)을 SSE로 받습니다.")
+    @Parameter(name = "chartName", description = "차트 이름 (예: billboard-japan, oricon)", example = "billboard-japan")
+    @GetMapping(value = "/chart/{chartName}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamChart(@PathVariable String chartName) {
+        return songService.streamChart(chartName);
     }
 
     @Operation(summary = "테스트 곡 추가", description = "테스트용 샘플 데이터를 추가합니다.")
@@ -93,4 +156,62 @@ public class SongController {
         int deletedCount = songService.cleanupSameRankingDuplicates(chartName);
         return chartName + " 차트에서 같은 순위 중복 " + deletedCount + "개가 정리되었습니다.";
     }
+
+    // 미리 만들어 둔 바이트를 그대로 응답 (Jackson 직렬화 없음)
+    // gzip 본문과 원본 본문은 다른 표현이므로 ETag도 따로 씀
+    private static ResponseEntity<byte[]> toResponse(ChartPayload payload, String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (payload.matches(ifNoneMatch, gzip)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(payload.getEtag(gzip))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .eTag(payload.getEtag(gzip))
+            .header(CHART_VERSION_HEADER, String.valueOf(payload.getVersion()))
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzip());
+        }
+        return builder.body(payload.getJson());
+    }
+
+    // Accept-Encoding에서 gzip(또는 *)의 q 값이 0보다 크면 true ("gzip;q=0"은 거부)
+    // gzip이 직접 적혀 있으면 *보다 우선
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && (param.startsWith("q=") || param.startsWith("Q="))) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
 }
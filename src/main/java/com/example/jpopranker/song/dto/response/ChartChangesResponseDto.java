@@ -0,0 +1,57 @@
+package com.example.jpopranker.song.dto.response;
+
+import com.example.jpopranker.song.store.ChartData;
+import com.example.jpopranker.song.store.ChartDiff;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 클라이언트 버전 이후의 변경분 (따라잡을 수 없으면 full=true와 전체 곡 목록)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChartChangesResponseDto {
+
+    private String chartName;
+
+    private long since;
+
+    private long version;
+
+    private boolean full;
+
+    private List<SongResponseDto> songs;
+
+    private List<ChartDiff.Change> inserted;
+
+    private List<ChartDiff.Change> moved;
+
+    private List<ChartDiff.Change> dropped;
+
+    public static ChartChangesResponseDto delta(long since, ChartDiff diff) {
+        return ChartChangesResponseDto.builder()
+            .chartName(diff.getChartName())
+            .since(since)
+            .version(diff.getToVersion())
+            .full(false)
+            .inserted(diff.getInserted())
+            .moved(diff.getMoved())
+            .dropped(diff.getDropped())
+            .build();
+    }
+
+    public static ChartChangesResponseDto snapshot(String chartName, long since, ChartData chart) {
+        return ChartChangesResponseDto.builder()
+            .chartName(chartName)
+            .since(since)
+            .version(chart == null ? 0 : chart.getVersion())
+            .full(true)
+            .songs(chart == null ? List.of() : chart.toResponse())
+            .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jpopranker.song.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 키셋 페이지 (다음 페이지는 nextCursor를 cursor로 넘겨서 조회)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongPageResponseDto {
+
+    private List<SongResponseDto> songs;
+
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
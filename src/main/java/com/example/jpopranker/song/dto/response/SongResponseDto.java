@@ -1,5 +1,6 @@
 package com.example.jpopranker.song.dto.response;
 
+import com.example.jpopranker.song.entity.RankMovement;
 import com.example.jpopranker.song.entity.Song;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -25,8 +26,26 @@ public class SongResponseDto {
 
     private LocalDateTime chartDate;
 
+    // 직전 차트 순위 (신곡/재진입이면 null)
+    private Integer previousRanking;
+
+    // 직전 순위 - 현재 순위 (양수면 상승)
+    private Integer rankDelta;
+
+    private Integer peakRanking;
+
+    private Integer weeksOnChart;
+
+    private Boolean newEntry;
+
+    private Boolean reEntry;
+
+    // 차트가 달라도 같은 곡이면 같은 ID (song_identities.id)
+    private Long songIdentityId;
+
     // Entity -> DTO 변환 메서드
     public static SongResponseDto from(Song song) {
+        RankMovement movement = song.getMovement() != null ? song.getMovement() : new RankMovement();
         return SongResponseDto.builder()
             .id(song.getId())
             .title(song.getTitle())
@@ -34,6 +53,13 @@ public class SongResponseDto {
             .ranking(song.getRanking())
             .chartName(song.getChartName())
             .chartDate(song.getChartDate())
+            .previousRanking(movement.getPreviousRanking())
+            .rankDelta(movement.getRankDelta())
+            .peakRanking(movement.getPeakRanking())
+            .weeksOnChart(movement.getWeeksOnChart())
+            .newEntry(movement.getNewEntry())
+            .reEntry(movement.getReEntry())
+            .songIdentityId(song.getSongIdentityId())
             .build();
     }
 }
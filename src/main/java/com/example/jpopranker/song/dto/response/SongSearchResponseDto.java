@@ -0,0 +1,26 @@
+package com.example.jpopranker.song.dto.response;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongSearchResponseDto {
+
+    // 곡 ID (song_identities.id, /charts/songs/{songId}/history로 이력 조회)
+    private Long songId;
+
+    private String title;
+
+    private String artist;
+
+    private double score;
+
+    // 지금 올라 있는 차트의 순위 (차트 이름 -> 순위)
+    private Map<String, Integer> currentRankings;
+}
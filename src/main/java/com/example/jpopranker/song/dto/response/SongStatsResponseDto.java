@@ -0,0 +1,68 @@
+package com.example.jpopranker.song.dto.response;
+
+import com.example.jpopranker.song.store.ChartData;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongStatsResponseDto {
+
+    private int totalSongs;
+
+    private int chartCount;
+
+    // 가장 최근에 차트가 바뀐 시각
+    private LocalDateTime lastUpdatedAt;
+
+    private List<ChartStats> charts;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChartStats {
+
+        private String chartName;
+
+        private int songCount;
+
+        // 현재 버전 (크롤링으로 내용이 바뀔 때마다 증가)
+        private long version;
+
+        private LocalDateTime updatedAt;
+
+        public static ChartStats from(ChartData chart) {
+            return ChartStats.builder()
+                .chartName(chart.getChartName())
+                .songCount(chart.size())
+                .version(chart.getVersion())
+                .updatedAt(chart.getUpdatedAt())
+                .build();
+        }
+    }
+
+    public static SongStatsResponseDto from(List<ChartData> charts) {
+        List<ChartStats> chartStats = charts.stream()
+            .sorted(Comparator.comparing(ChartData::getChartName))
+            .map(ChartStats::from)
+            .toList();
+        return SongStatsResponseDto.builder()
+            .totalSongs(chartStats.stream().mapToInt(ChartStats::getSongCount).sum())
+            .chartCount(chartStats.size())
+            .lastUpdatedAt(chartStats.stream()
+                .map(ChartStats::getUpdatedAt)
+                .filter(updatedAt -> updatedAt != null)
+                .max(Comparator.naturalOrder())
+                .orElse(null))
+            .charts(chartStats)
+            .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.jpopranker.song.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 차트별 현재 버전 포인터
+// 크롤링은 새 버전으로 songs에 먼저 쓰고, 마지막에 이 값만 바꿔서 한번에 교체
+@Getter
+@Entity
+@Table(name = "chart_versions")
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ChartVersion {
+
+    @Id
+    @Column(name = "chart_name")
+    private String chartName;
+
+    @Column(name = "current_version", nullable = false)
+    private Long currentVersion;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.example.jpopranker.song.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 메모리에서 만드는 차트(합산 차트)의 곡별 순위 변동 기준
+// 차트 행은 DB에 없으므로 재시작 후에도 직전 순위/최고 순위를 이어가도록 따로 저장
+@Getter
+@Entity
+@Table(name = "composite_rankings",
+    uniqueConstraints = @UniqueConstraint(name = "uk_composite_rankings_chart_song",
+        columnNames = {"chart_name", "song_identity_id"}))
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class CompositeRanking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chart_name", nullable = false)
+    private String chartName;
+
+    @Column(name = "song_identity_id", nullable = false)
+    private Long songIdentityId;
+
+    // 마지막으로 게시한 버전의 순위 (그 버전에 없었으면 null)
+    private Integer ranking;
+
+    @Column(name = "peak_ranking", nullable = false)
+    private Integer peakRanking;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,58 @@
+package com.example.jpopranker.song.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 직전 차트 대비 순위 변동 (크롤링 커밋 시 한번 계산해서 행에 같이 저장)
+@Getter
+@Embeddable
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class RankMovement {
+
+    // 직전 차트 순위 (신곡/재진입이면 null)
+    @Column(name = "previous_ranking")
+    private Integer previousRanking;
+
+    // 직전 순위 - 현재 순위 (양수면 상승)
+    @Column(name = "rank_delta")
+    private Integer rankDelta;
+
+    // 최고 순위
+    @Column(name = "peak_ranking")
+    private Integer peakRanking;
+
+    // 차트에 오른 횟수 (주간 차트 기준 주 수)
+    @Column(name = "weeks_on_chart")
+    private Integer weeksOnChart;
+
+    @Column(name = "new_entry")
+    private Boolean newEntry;
+
+    @Column(name = "re_entry")
+    private Boolean reEntry;
+
+    // 처음 차트에 오른 곡
+    public static RankMovement debut(int ranking) {
+        return new RankMovement(null, null, ranking, 1, true, false);
+    }
+
+    // 직전 차트에 이어서 오른 곡
+    public static RankMovement stay(int ranking, int previousRanking, Integer previousPeak, Integer previousWeeks) {
+        return new RankMovement(previousRanking, previousRanking - ranking,
+            Math.min(ranking, previousPeak != null ? previousPeak : previousRanking),
+            (previousWeeks != null ? previousWeeks : 1) + 1, false, false);
+    }
+
+    // 직전 차트에는 없었지만 그 전에 오른 적이 있는 곡
+    public static RankMovement reEntry(int ranking, int lastRanking, Integer lastPeak, Integer lastWeeks) {
+        return new RankMovement(null, null,
+            Math.min(ranking, lastPeak != null ? lastPeak : lastRanking),
+            (lastWeeks != null ? lastWeeks : 1) + 1, false, true);
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.jpopranker.song.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,7 +17,15 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "songs")
+@Table(name = "songs",
+    // 원본 표기는 대소문자/악센트를 구분하지 않는 collation이라 표기 차이로 키가 겹칠 수 있으므로 곡 ID로 유일성 보장
+    uniqueConstraints = @UniqueConstraint(name = "uk_songs_chart_version_song_identity",
+        columnNames = {"chart_name", "chart_version", "song_identity_id"}),
+    indexes = {
+        @Index(name = "idx_songs_chart_version_ranking", columnList = "chart_name, chart_version, ranking"),
+        @Index(name = "idx_songs_artist", columnList = "artist"),
+        @Index(name = "idx_songs_song_identity", columnList = "song_identity_id")
+    })
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
@@ -38,11 +49,20 @@ public class Song {
     @Column(name = "chart_date")
     private LocalDateTime chartDate;
 
-    @Column(name = "created_at")
-    @Builder.Default
-    private LocalDateTime createdAt = LocalDateTime.now();
+    // 이 행이 속한 차트 버전 (chart_versions.current_version과 같은 행만 조회됨)
+    @Column(name = "chart_version")
+    private Long chartVersion;
 
+    // 차트와 표기에 상관없이 같은 곡이면 같은 값 (song_identities.id)
+    @Column(name = "song_identity_id")
+    private Long songIdentityId;
 
+    // 직전 버전 대비 순위 변동 (크롤링으로 저장된 행만 있음)
+    @Embedded
+    private RankMovement movement;
 
+    @Column(name = "created_at")
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
 
 }
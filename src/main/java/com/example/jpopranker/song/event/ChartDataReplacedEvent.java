@@ -0,0 +1,22 @@
+package com.example.jpopranker.song.event;
+
+import com.example.jpopranker.song.store.ChartData;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 메모리 저장소의 차트가 교체되었을 때 발행 (previous는 처음 적재면 null)
+// reload면 전체 차트를 다시 불러오는 중이고, 끝나면 ChartsReloadedEvent가 이어서 발행됨
+@Getter
+@ToString(of = "chartName")
+@AllArgsConstructor
+public class ChartDataReplacedEvent {
+
+    private final String chartName;
+
+    private final ChartData previous;
+
+    private final ChartData current;
+
+    private final boolean reload;
+}
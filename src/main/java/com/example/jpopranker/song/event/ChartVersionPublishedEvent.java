@@ -0,0 +1,18 @@
+package com.example.jpopranker.song.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 차트의 새 버전이 현재 버전으로 바뀌었을 때 발행 (트랜잭션 커밋 후 처리)
+@Getter
+@ToString
+@AllArgsConstructor
+public class ChartVersionPublishedEvent {
+
+    private final String chartName;
+
+    private final long previousVersion;
+
+    private final long version;
+}
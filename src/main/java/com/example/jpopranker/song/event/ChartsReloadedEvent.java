@@ -0,0 +1,9 @@
+package com.example.jpopranker.song.event;
+
+import lombok.ToString;
+
+// 메모리 저장소가 모든 차트를 다시 불러온 뒤 발행 (시작 시, 전체 정리 작업 후)
+// 다시 불러오는 동안의 ChartDataReplacedEvent는 reload로 표시되므로 파생 차트는 이 이벤트에서 한 번만 게시
+@ToString
+public class ChartsReloadedEvent {
+}
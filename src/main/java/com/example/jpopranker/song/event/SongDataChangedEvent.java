@@ -0,0 +1,14 @@
+package com.example.jpopranker.song.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 차트 버전은 그대로인데 곡 데이터가 바뀌었을 때 발행 (chartName이 null이면 전체 차트)
+@Getter
+@ToString
+@AllArgsConstructor
+public class SongDataChangedEvent {
+
+    private final String chartName;
+}
@@ -0,0 +1,9 @@
+package com.example.jpopranker.song.repository;
+
+import com.example.jpopranker.song.entity.ChartVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChartVersionRepository extends JpaRepository<ChartVersion, String> {
+}
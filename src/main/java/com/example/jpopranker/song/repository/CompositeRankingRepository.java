@@ -0,0 +1,12 @@
+package com.example.jpopranker.song.repository;
+
+import com.example.jpopranker.song.entity.CompositeRanking;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CompositeRankingRepository extends JpaRepository<CompositeRanking, Long> {
+
+    List<CompositeRanking> findByChartName(String chartName);
+}
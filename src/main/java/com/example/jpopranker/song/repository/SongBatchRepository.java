@@ -0,0 +1,120 @@
+package com.example.jpopranker.song.repository;
+
+import com.example.jpopranker.song.entity.RankMovement;
+import com.example.jpopranker.song.entity.Song;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 직접 처리
+@Repository
+@RequiredArgsConstructor
+public class SongBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO songs (title, artist, ranking, chart_name, chart_date, chart_version, created_at, "
+            + "previous_ranking, rank_delta, peak_ranking, weeks_on_chart, new_entry, re_entry, song_identity_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INIT_VERSION_SQL =
+        "INSERT IGNORE INTO chart_versions (chart_name, current_version, updated_at) VALUES (?, 0, ?)";
+
+    private static final String LOCK_VERSION_SQL =
+        "SELECT current_version FROM chart_versions WHERE chart_name = ? FOR UPDATE";
+
+    private static final String PUBLISH_VERSION_SQL =
+        "UPDATE chart_versions SET current_version = ?, updated_at = ? WHERE chart_name = ?";
+
+    // 합산 차트 순위 변동 기준: 이번 버전에서 빠진 곡은 순위만 비우고 최고 순위는 남김
+    private static final String RENUMBER_VERSION_SQL =
+        "UPDATE songs SET chart_version = ? WHERE chart_name = ? AND chart_version = ?";
+
+    private static final String CLEAR_COMPOSITE_RANKINGS_SQL =
+        "UPDATE composite_rankings SET ranking = NULL WHERE chart_name = ? AND ranking IS NOT NULL";
+
+    private static final String UPSERT_COMPOSITE_RANKING_SQL =
+        "INSERT INTO composite_rankings (chart_name, song_identity_id, ranking, peak_ranking, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE ranking = VALUES(ranking), peak_ranking = VALUES(peak_ranking), "
+            + "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 새 곡들을 한번에 INSERT
+    public void insertAll(List<Song> songs) {
+        if (songs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, songs, BATCH_SIZE, (ps, song) -> {
+            ps.setString(1, song.getTitle());
+            ps.setString(2, song.getArtist());
+            ps.setObject(3, song.getRanking());
+            ps.setString(4, song.getChartName());
+            ps.setTimestamp(5, song.getChartDate() == null ? null : Timestamp.valueOf(song.getChartDate()));
+            ps.setObject(6, song.getChartVersion());
+            ps.setTimestamp(7, Timestamp.valueOf(song.getCreatedAt()));
+            RankMovement movement = song.getMovement() != null ? song.getMovement() : new RankMovement();
+            ps.setObject(8, movement.getPreviousRanking());
+            ps.setObject(9, movement.getRankDelta());
+            ps.setObject(10, movement.getPeakRanking());
+            ps.setObject(11, movement.getWeeksOnChart());
+            ps.setObject(12, movement.getNewEntry());
+            ps.setObject(13, movement.getReEntry());
+            ps.setObject(14, song.getSongIdentityId());
+        });
+    }
+
+    // 차트 버전 포인터를 잠그고 현재 버전을 반환 (같은 차트의 쓰기 작업은 여기서 순서대로 처리됨)
+    public long lockChartVersion(String chartName) {
+        jdbcTemplate.update(INIT_VERSION_SQL, chartName, Timestamp.valueOf(LocalDateTime.now()));
+        Long currentVersion = jdbcTemplate.queryForObject(LOCK_VERSION_SQL, Long.class, chartName);
+        return currentVersion == null ? 0L : currentVersion;
+    }
+
+    // 버전을 하나 올리고 새 버전 반환 (행을 DB에 저장하지 않는 합산 차트용)
+    // 게시한 순위(곡 ID -> 순위, 최고 순위)도 같이 저장해서 재시작 후에도 순위 변동이 이어지게 함
+    // 커밋 후 이벤트 처리 중에 불리므로 별도 트랜잭션으로 바로 커밋
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long publishDerivedChart(String chartName, Map<Long, Integer> rankings, Map<Long, Integer> peakRankings) {
+        long nextVersion = lockChartVersion(chartName) + 1;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(CLEAR_COMPOSITE_RANKINGS_SQL, chartName);
+        jdbcTemplate.batchUpdate(UPSERT_COMPOSITE_RANKING_SQL, List.copyOf(rankings.entrySet()), BATCH_SIZE,
+            (ps, ranking) -> {
+                ps.setString(1, chartName);
+                ps.setLong(2, ranking.getKey());
+                ps.setInt(3, ranking.getValue());
+                ps.setInt(4, peakRankings.getOrDefault(ranking.getKey(), ranking.getValue()));
+                ps.setTimestamp(5, now);
+            });
+        publishChartVersion(chartName, nextVersion);
+        return nextVersion;
+    }
+
+    // 현재 버전의 행을 다음 버전 번호로 옮겨서 게시 (정리 작업으로 현재 버전의 행이 바뀐 경우)
+    // 그 사이 다른 버전이 게시되었으면 옮기지 않고 그 버전을 반환
+    // 커밋 후 이벤트 처리 중에 불리므로 별도 트랜잭션으로 바로 커밋
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long bumpChartVersion(String chartName, long version) {
+        long currentVersion = lockChartVersion(chartName);
+        if (currentVersion != version) {
+            return currentVersion;
+        }
+        jdbcTemplate.update(RENUMBER_VERSION_SQL, version + 1, chartName, version);
+        publishChartVersion(chartName, version + 1);
+        return version + 1;
+    }
+
+    // 현재 버전 포인터 교체 (단일 UPDATE)
+    public void publishChartVersion(String chartName, long version) {
+        jdbcTemplate.update(PUBLISH_VERSION_SQL, version, Timestamp.valueOf(LocalDateTime.now()), chartName);
+    }
+}
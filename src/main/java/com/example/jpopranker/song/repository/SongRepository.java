@@ -1,10 +1,16 @@
 package com.example.jpopranker.song.repository;
 
+import com.example.jpopranker.song.dto.response.SongResponseDto;
 import com.example.jpopranker.song.entity.Song;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface SongRepository extends JpaRepository<Song, Long> {
@@ -12,6 +18,8 @@ public interface SongRepository extends JpaRepository<Song, Long> {
     // 차트별로 조회
     List<Song> findByChartName(String chartName);
 
+    boolean existsByChartName(String chartName);
+
     // 아티스트별로 조회
     List<Song> findByArtist(String artist);
 
@@ -19,4 +27,83 @@ public interface SongRepository extends JpaRepository<Song, Long> {
     List<Song> findByChartNameOrderByRankingAsc(String chartName);
 
     Optional<Song> findByTitleAndArtistAndChartName(String title, String artist, String chartName);
+
+    Optional<Song> findByTitleAndArtistAndChartNameAndChartVersion(String title, String artist, String chartName,
+        Long chartVersion);
+
+    Optional<Song> findFirstBySongIdentityIdAndChartNameAndChartVersion(Long songIdentityId, String chartName,
+        Long chartVersion);
+
+    // 현재 버전의 차트 조회 (버전 포인터와 한 문장으로 조인해서 교체 중에도 일관된 결과)
+    @Query("SELECT s FROM Song s JOIN ChartVersion v ON v.chartName = s.chartName "
+        + "WHERE s.chartName = :chartName AND s.chartVersion = v.currentVersion ORDER BY s.ranking")
+    List<Song> findCurrentChart(@Param("chartName") String chartName);
+
+    // 모든 차트의 현재 버전 조회
+    @Query("SELECT s FROM Song s JOIN ChartVersion v ON v.chartName = s.chartName "
+        + "WHERE s.chartVersion = v.currentVersion")
+    List<Song> findAllCurrent();
+
+    // 모든 차트의 현재 버전을 id 기준 키셋으로 조회 (엔티티 대신 DTO 컬럼만 조회)
+    @Query("SELECT new com.example.jpopranker.song.dto.response.SongResponseDto("
+        + "s.id, s.title, s.artist, s.ranking, s.chartName, s.chartDate, "
+        + "s.movement.previousRanking, s.movement.rankDelta, s.movement.peakRanking, s.movement.weeksOnChart, "
+        + "s.movement.newEntry, s.movement.reEntry, s.songIdentityId) "
+        + "FROM Song s JOIN ChartVersion v ON v.chartName = s.chartName "
+        + "WHERE s.chartVersion = v.currentVersion AND s.id > :cursor ORDER BY s.id")
+    List<SongResponseDto> findCurrentPage(@Param("cursor") long cursor, Pageable pageable);
+
+    List<Song> findByChartNameAndChartVersion(String chartName, Long chartVersion);
+
+    // 지난 버전 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Song s WHERE s.chartName = :chartName AND s.chartVersion < :version")
+    int deleteVersionsBefore(@Param("chartName") String chartName, @Param("version") long version);
+
+    // 차트 전체 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Song s WHERE s.chartName = :chartName")
+    int deleteByChartNameInBulk(@Param("chartName") String chartName);
+
+    // 아티스트 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Song s WHERE s.artist = :artist")
+    int deleteByArtistInBulk(@Param("artist") String artist);
+
+    // 같은 제목+아티스트+차트 버전 중복 중 최신 것만 남기고 삭제
+    @Modifying
+    @Query(value = "DELETE s FROM songs s JOIN ("
+        + "SELECT id FROM (SELECT id, ROW_NUMBER() OVER ("
+        + "PARTITION BY chart_name, chart_version, title, artist ORDER BY chart_date DESC, id DESC) AS rn "
+        + "FROM songs) ranked WHERE rn > 1"
+        + ") duplicates ON duplicates.id = s.id", nativeQuery = true)
+    int deleteDuplicates();
+
+    // 특정 차트에서 같은 순위 중복 중 최신 것만 남기고 삭제
+    @Modifying
+    @Query(value = "DELETE s FROM songs s JOIN ("
+        + "SELECT id FROM (SELECT id, ROW_NUMBER() OVER ("
+        + "PARTITION BY chart_version, ranking ORDER BY chart_date DESC, id DESC) AS rn "
+        + "FROM songs WHERE chart_name = :chartName) ranked WHERE rn > 1"
+        + ") duplicates ON duplicates.id = s.id", nativeQuery = true)
+    int deleteSameRankingDuplicates(@Param("chartName") String chartName);
+
+    // 모든 차트의 같은 순위 중복 정리
+    @Modifying
+    @Query(value = "DELETE s FROM songs s JOIN ("
+        + "SELECT id FROM (SELECT id, ROW_NUMBER() OVER ("
+        + "PARTITION BY chart_name, chart_version, ranking ORDER BY chart_date DESC, id DESC) AS rn "
+        + "FROM songs) ranked WHERE rn > 1"
+        + ") duplicates ON duplicates.id = s.id", nativeQuery = true)
+    int deleteAllSameRankingDuplicates();
+
+    // 빈 값, 한 글자, 제목과 아티스트가 같은 데이터 삭제
+    // TRIM은 공백 문자만 지우므로 탭/줄바꿈까지 포함해서 공백을 뺀 글자가 한 개 이하인지 정규식으로 확인
+    @Modifying
+    @Query(value = "DELETE FROM songs WHERE title IS NULL OR artist IS NULL "
+        + "OR title REGEXP '^[[:space:]]*[^[:space:]]?[[:space:]]*$' "
+        + "OR artist REGEXP '^[[:space:]]*[^[:space:]]?[[:space:]]*$' "
+        + "OR CAST(title AS BINARY) = CAST(artist AS BINARY)", nativeQuery = true)
+    int deleteInvalidTitleOrArtist();
 }
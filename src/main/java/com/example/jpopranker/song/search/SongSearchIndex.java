@@ -0,0 +1,176 @@
+package com.example.jpopranker.song.search;
+
+import com.example.jpopranker.chart.entity.SongIdentity;
+import com.example.jpopranker.chart.event.SongIdentitiesAddedEvent;
+import com.example.jpopranker.chart.identity.SongNormalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 제목/아티스트 n-gram 역색인 (전체 곡 이력 대상, 조회는 메모리에서만)
+// 일본어는 띄어쓰기가 없어서 단어 대신 두 글자(bi-gram) 단위로 색인, 한 글자 검색은 uni-gram 사용
+@Slf4j
+@Component
+public class SongSearchIndex {
+
+    // 검색어 n-gram 중 이 비율 이상 포함한 곡만 후보
+    private static final double MIN_COVERAGE = 0.5;
+
+    private volatile Index index = new Index();
+
+    // 색인 하나 (초기화할 때는 새로 만들어서 통째로 교체)
+    private static final class Index {
+
+        // n-gram -> 곡 ID 목록
+        private final Map<Integer, Postings> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    }
+
+    // 곡 ID 목록 (추가는 onIdentitiesAdded 잠금 안에서만, 조회는 잠금 없이)
+    // 배열을 두 배씩 늘려서 추가할 때마다 전체를 복사하지 않음
+    // 값 -> 배열 -> size 순서로 쓰고 size -> 배열 순서로 읽으므로 읽는 쪽은 size까지는 항상 채워진 값을 봄
+    private static final class Postings {
+
+        private volatile long[] ids = new long[4];
+        private volatile int size;
+
+        private void add(long id) {
+            long[] current = ids;
+            int count = size;
+            if (count == current.length) {
+                current = Arrays.copyOf(current, count * 2);
+            }
+            current[count] = id;
+            ids = current;
+            size = count + 1;
+        }
+
+        private void forEach(LongConsumer action) {
+            int count = size;
+            long[] current = ids;
+            for (int i = 0; i < count; i++) {
+                action.accept(current[i]);
+            }
+        }
+
+        // 전체 색인을 새로 만든 뒤 남는 자리 정리
+        private void trim() {
+            if (ids.length > size) {
+                ids = Arrays.copyOf(ids, size);
+            }
+        }
+    }
+
+    private record Document(long id, String title, String artist, String normalizedTitle, String normalizedArtist) {
+    }
+
+    public record Hit(long songId, String title, String artist, double score) {
+    }
+
+    // 커밋된 곡 ID만 색인 (트랜잭션 밖에서 발행된 경우도 처리)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onIdentitiesAdded(SongIdentitiesAddedEvent event) {
+        if (event.isReset()) {
+            Index rebuilt = new Index();
+            event.getIdentities().forEach(identity -> add(rebuilt, identity));
+            rebuilt.postings.values().forEach(Postings::trim);
+            index = rebuilt;
+            log.info("검색 색인 구성 완료 - 곡 {}개, n-gram {}개", rebuilt.documents.size(), rebuilt.postings.size());
+            return;
+        }
+        event.getIdentities().forEach(identity -> add(index, identity));
+    }
+
+    public List<Hit> search(String query, int limit) {
+        String normalizedQuery = SongNormalizer.normalize(query);
+        Set<Integer> grams = grams(normalizedQuery);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+
+        Index current = index;
+        Map<Long, Integer> matched = new HashMap<>();
+        for (int gram : grams) {
+            Postings postings = current.postings.get(gram);
+            if (postings != null) {
+                postings.forEach(songId -> matched.merge(songId, 1, Integer::sum));
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        matched.forEach((songId, count) -> {
+            double coverage = (double) count / grams.size();
+            if (coverage < MIN_COVERAGE) {
+                return;
+            }
+            Document document = current.documents.get(songId);
+            hits.add(new Hit(songId, document.title(), document.artist(),
+                score(document, normalizedQuery, coverage)));
+        });
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparingInt(hit -> hit.title().length()));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    // n-gram 일치율 + 실제로 이어서 포함하면 가산점 (제목 > 아티스트, 앞부분 일치 우대)
+    private static double score(Document document, String query, double coverage) {
+        double score = coverage;
+        if (document.normalizedTitle().contains(query)) {
+            score += document.normalizedTitle().startsWith(query) ? 1.5 : 1.0;
+        }
+        if (document.normalizedArtist().contains(query)) {
+            score += document.normalizedArtist().startsWith(query) ? 1.0 : 0.7;
+        }
+        return score;
+    }
+
+    private static void add(Index target, SongIdentity identity) {
+        Document document = new Document(identity.getId(), identity.getTitle(), identity.getArtist(),
+            SongNormalizer.normalize(identity.getTitle()), SongNormalizer.normalize(identity.getArtist()));
+        if (target.documents.putIfAbsent(document.id(), document) != null) {
+            return;
+        }
+
+        Set<Integer> grams = grams(document.normalizedTitle());
+        grams.addAll(grams(document.normalizedArtist()));
+        grams.addAll(unigrams(document.normalizedTitle() + document.normalizedArtist()));
+        for (int gram : grams) {
+            target.postings.computeIfAbsent(gram, key -> new Postings()).add(document.id());
+        }
+    }
+
+    // 한 글자 검색용 uni-gram (두 번째 글자 자리를 0으로 둬서 bi-gram과 겹치지 않음)
+    private static Set<Integer> unigrams(String text) {
+        Set<Integer> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != ' ') {
+                grams.add((int) text.charAt(i) << 16);
+            }
+        }
+        return grams;
+    }
+
+    // 공백을 뺀 문자열의 bi-gram (한 글자면 uni-gram)
+    private static Set<Integer> grams(String text) {
+        String compact = text.replace(" ", "");
+        Set<Integer> grams = new LinkedHashSet<>();
+        if (compact.length() == 1) {
+            grams.add((int) compact.charAt(0) << 16);
+            return grams;
+        }
+        for (int i = 0; i + 1 < compact.length(); i++) {
+            grams.add(compact.charAt(i) << 16 | compact.charAt(i + 1));
+        }
+        return grams;
+    }
+}
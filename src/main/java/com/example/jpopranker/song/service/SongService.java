@@ -1,47 +1,182 @@
 package com.example.jpopranker.song.service;
 
+import com.example.jpopranker.chart.identity.SongIdentityIndex;
 import com.example.jpopranker.song.dto.request.SongRequestDto;
+import com.example.jpopranker.song.dto.response.ChartChangesResponseDto;
+import com.example.jpopranker.song.dto.response.SongPageResponseDto;
 import com.example.jpopranker.song.dto.response.SongResponseDto;
+import com.example.jpopranker.song.dto.response.SongSearchResponseDto;
+import com.example.jpopranker.song.dto.response.SongStatsResponseDto;
+import com.example.jpopranker.song.entity.RankMovement;
 import com.example.jpopranker.song.entity.Song;
+import com.example.jpopranker.song.event.ChartVersionPublishedEvent;
+import com.example.jpopranker.song.event.SongDataChangedEvent;
+import com.example.jpopranker.song.repository.SongBatchRepository;
 import com.example.jpopranker.song.repository.SongRepository;
+import com.example.jpopranker.song.search.SongSearchIndex;
+import com.example.jpopranker.song.store.ChartData;
+import com.example.jpopranker.song.store.ChartDiff;
+import com.example.jpopranker.song.store.ChartPayload;
+import com.example.jpopranker.song.store.ChartStore;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SongService {
 
+    private static final String UNKNOWN_ARTIST = "Unknown";
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    private static final Duration SSE_HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+
     private final SongRepository songRepository;
+    private final SongBatchRepository songBatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChartStore chartStore;
+    private final SongIdentityIndex songIdentityIndex;
+    private final SongSearchIndex songSearchIndex;
 
-    // 모든 곡 조회
-    public List<SongResponseDto> getAllSongs() {
-        return songRepository.findAll().stream()
-            .map(SongResponseDto::from)
-            .toList();
+    // 현재 곡 목록을 페이지 단위로 조회 (cursor 다음 id부터)
+    public SongPageResponseDto getSongs(long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 개 더 읽어서 다음 페이지가 있는지 확인
+        List<SongResponseDto> songs = songRepository.findCurrentPage(cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = songs.size() > pageSize;
+        if (hasNext) {
+            songs = songs.subList(0, pageSize);
+        }
+        return SongPageResponseDto.builder()
+            .songs(songs)
+            .nextCursor(hasNext ? songs.get(songs.size() - 1).getId() : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    // 차트별 곡 수와 버전 (메모리 저장소 기준이라 DB 조회 없음)
+    public SongStatsResponseDto getStats() {
+        return SongStatsResponseDto.from(List.copyOf(chartStore.getCharts()));
     }
 
-    // 차트별 곡 조회
+    // 차트별 곡 조회 (메모리 저장소에서 읽음)
     public List<SongResponseDto> getSongsByChart(String chartName) {
-        return songRepository.findByChartNameOrderByRankingAsc(chartName).stream()
-            .map(SongResponseDto::from).toList();
+        return chartStore.getChart(chartName)
+            .map(ChartData::toResponse)
+            .orElse(List.of());
+    }
+
+    // 미리 직렬화된 차트별 응답
+    public ChartPayload getChartPayload(String chartName) {
+        return chartStore.getChartPayload(chartName);
     }
 
-    // 곡 저장
+    // since 버전 이후의 변경분 조회
+    // 보관 중인 지난 버전과 현재 버전을 비교하고, 없으면(너무 오래됨) 전체 목록을 반환
+    public ChartChangesResponseDto getChartChanges(String chartName, long since) {
+        Optional<ChartData> current = chartStore.getChart(chartName);
+        if (current.isEmpty()) {
+            return ChartChangesResponseDto.snapshot(chartName, since, null);
+        }
+
+        ChartData chart = current.get();
+        if (since == chart.getVersion()) {
+            return ChartChangesResponseDto.delta(since, ChartDiff.between(chart, chart));
+        }
+        return chartStore.getPastVersion(chartName, since)
+            .map(past -> ChartChangesResponseDto.delta(since, ChartDiff.between(past, chart)))
+            .orElseGet(() -> ChartChangesResponseDto.snapshot(chartName, since, chart));
+    }
+
+    // 차트 변경분 SSE 스트림
+    // 연결 직후 현재 버전을 알려주고, 이후에는 크롤링이 새 버전을 커밋할 때마다 변경분만 보냄
+    public Flux<ServerSentEvent<Object>> streamChart(String chartName) {
+        Mono<ServerSentEvent<Object>> ready = Mono.fromSupplier(() -> ServerSentEvent.<Object>builder()
+            .event("ready")
+            .data(Map.of("chartName", chartName,
+                "version", chartStore.getChart(chartName).map(ChartData::getVersion).orElse(0L)))
+            .build());
+
+        Flux<ServerSentEvent<Object>> diffs = chartStore.updates(chartName)
+            .map(diff -> ServerSentEvent.<Object>builder(diff)
+                .id(String.valueOf(diff.getToVersion()))
+                .event("diff")
+                .build());
+
+        // 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 전송
+        Flux<ServerSentEvent<Object>> heartbeat = Flux.interval(SSE_HEARTBEAT_INTERVAL)
+            .map(tick -> ServerSentEvent.<Object>builder().comment("keepalive").build());
+
+        return Flux.merge(ready, diffs, heartbeat);
+    }
+
+    // 제목/아티스트 검색 (메모리 색인 + 메모리 차트 저장소만 사용)
+    public List<SongSearchResponseDto> search(String query, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        List<SongSearchIndex.Hit> hits = songSearchIndex.search(query, boundedLimit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Map<String, Integer>> currentRankings = new HashMap<>();
+        hits.forEach(hit -> currentRankings.put(hit.songId(), new TreeMap<>()));
+        for (ChartData chart : chartStore.getCharts()) {
+            for (int i = 0; i < chart.size(); i++) {
+                Map<String, Integer> rankings = currentRankings.get(chart.getSongIdentityId(i));
+                if (rankings != null && chart.getRanking(i) != null) {
+                    rankings.merge(chart.getChartName(), chart.getRanking(i), Math::min);
+                }
+            }
+        }
+
+        return hits.stream()
+            .map(hit -> SongSearchResponseDto.builder()
+                .songId(hit.songId())
+                .title(hit.title())
+                .artist(hit.artist())
+                .score(hit.score())
+                .currentRankings(currentRankings.get(hit.songId()))
+                .build())
+            .toList();
+    }
+
+    // 차트 데이터가 있는지 확인
+    public boolean hasChart(String chartName) {
+        return songRepository.existsByChartName(chartName);
+    }
+
+    // 곡 저장 (차트의 현재 버전에 추가)
+    @Transactional
     public SongResponseDto saveSong(SongRequestDto requestDto) {
-        // 같은 차트에서 같은 곡이 이미 있는지 확인
-        Optional<Song> existingSong = songRepository.findByTitleAndArtistAndChartName(
-            requestDto.getTitle(),
-            requestDto.getArtist(),
-            requestDto.getChartName()
-        );
+        long currentVersion = songBatchRepository.lockChartVersion(requestDto.getChartName());
+        Long songIdentityId = songIdentityIndex.resolve(requestDto.getTitle(), requestDto.getArtist());
+
+        // 같은 차트에서 같은 곡이 이미 있는지 확인 (표기가 달라도 같은 곡 ID면 같은 곡)
+        // 곡 ID가 없던 시절에 저장된 행은 원본 표기로 한번 더 확인
+        Optional<Song> existingSong = songRepository.findFirstBySongIdentityIdAndChartNameAndChartVersion(
+                songIdentityId, requestDto.getChartName(), currentVersion)
+            .or(() -> songRepository.findByTitleAndArtistAndChartNameAndChartVersion(
+                requestDto.getTitle(), requestDto.getArtist(), requestDto.getChartName(), currentVersion));
 
         if (existingSong.isPresent()) {
             // 기존 곡이 있으면 랭킹만 업데이트
@@ -53,10 +188,14 @@ public class SongService {
                 .ranking(requestDto.getRanking())
                 .chartName(oldSong.getChartName())
                 .chartDate(LocalDateTime.now())
+                .chartVersion(currentVersion)
+                .songIdentityId(songIdentityId)
+                .movement(oldSong.getMovement())
                 .createdAt(oldSong.getCreatedAt())
                 .build();
 
             Song savedSong = songRepository.save(updatedSong);
+            eventPublisher.publishEvent(new SongDataChangedEvent(requestDto.getChartName()));
             log.info("기존 곡 업데이트 : {} - {} ({}위)", requestDto.getArtist(), requestDto.getTitle(),
                 requestDto.getRanking());
             return SongResponseDto.from(savedSong);
@@ -68,40 +207,92 @@ public class SongService {
                 .ranking(requestDto.getRanking())
                 .chartName(requestDto.getChartName())
                 .chartDate(LocalDateTime.now())
+                .chartVersion(currentVersion)
+                .songIdentityId(songIdentityId)
                 .build();
 
             Song savedSong = songRepository.save(song);
+            eventPublisher.publishEvent(new SongDataChangedEvent(requestDto.getChartName()));
             log.info("새 곡 저장: {} - {} ({}위)", requestDto.getArtist(), requestDto.getTitle(),
                 requestDto.getRanking());
             return SongResponseDto.from(savedSong);
         }
     }
 
-    // 중복 데이터 정리 (같은 제목+아티스트+차트에서 최신 것만 남기기)
+    // 차트 스냅샷 일괄 저장
+    // 새 버전으로 전부 INSERT한 뒤 버전 포인터만 바꾸므로, 읽는 쪽은 이전 차트 또는 새 차트 전체만 보게 됨
     @Transactional
-    public int cleanupDuplicates() {
-        List<Song> allSongs = songRepository.findAll();
-        Map<String, List<Song>> groupedSongs = allSongs.stream()
-            .collect(Collectors.groupingBy(song ->
-                song.getTitle() + "|" + song.getArtist() + "|" + song.getChartName()));
-
-        int deletedCount = 0;
-        for (List<Song> duplicates : groupedSongs.values()) {
-            if (duplicates.size() > 1) {
-                // 가장 최신 데이터만 남기고 나머지 삭제
-                duplicates.sort((a, b) -> b.getChartDate().compareTo(a.getChartDate()));
-                List<Song> toDelete = duplicates.subList(1, duplicates.size());
-                songRepository.deleteAll(toDelete);
-                deletedCount += toDelete.size();
-
-                log.info("중복 제거: {} - {} ({} 차트에서 {}개 삭제)",
-                    duplicates.get(0).getTitle(),
-                    duplicates.get(0).getArtist(),
-                    duplicates.get(0).getChartName(),
-                    toDelete.size());
+    public int saveChartSnapshot(String chartName, List<SongRequestDto> requestDtos) {
+        return saveChartSnapshot(chartName, requestDtos, Map.of());
+    }
+
+    // movements: "제목|아티스트" -> 순위 변동 (스냅샷 저장 단계에서 계산한 값을 같이 저장)
+    @Transactional
+    public int saveChartSnapshot(String chartName, List<SongRequestDto> requestDtos,
+        Map<String, RankMovement> movements) {
+        long currentVersion = songBatchRepository.lockChartVersion(chartName);
+        long newVersion = currentVersion + 1;
+
+        // 현재 버전을 한번에 조회해서 처음 등장한 시각(createdAt)을 이어받음
+        // 비교는 정규화 키로 해서 전각/반각, 공백, feat. 표기 차이는 같은 곡으로 봄
+        Map<String, Song> existingSongs = new HashMap<>();
+        for (Song song : songRepository.findByChartNameAndChartVersion(chartName, currentVersion)) {
+            existingSongs.putIfAbsent(songIdentityIndex.keyOf(song.getTitle(), song.getArtist()), song);
+        }
+        Map<String, Long> songIdentityIds = songIdentityIndex.resolveAll(requestDtos);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Song> inserts = new ArrayList<>();
+        Set<Long> seenIdentityIds = new HashSet<>();
+        int carriedOver = 0;
+
+        for (SongRequestDto requestDto : requestDtos) {
+            if (!isValidSong(requestDto)) {
+                log.warn("잘못된 데이터 제외: {} - {}", requestDto.getArtist(), requestDto.getTitle());
+                continue;
             }
+            String rawKey = songKey(requestDto.getTitle(), requestDto.getArtist());
+            String key = songIdentityIndex.keyOf(requestDto.getTitle(), requestDto.getArtist());
+            Long songIdentityId = songIdentityIds.get(rawKey);
+            if (!seenIdentityIds.add(songIdentityId)) {
+                continue; // 같은 스냅샷 안의 같은 곡은 첫 번째 것만 사용
+            }
+
+            Song oldSong = existingSongs.get(key);
+            if (oldSong != null) {
+                carriedOver++;
+            }
+            inserts.add(Song.builder()
+                .title(requestDto.getTitle())
+                .artist(requestDto.getArtist())
+                .ranking(requestDto.getRanking())
+                .chartName(chartName)
+                .chartDate(now)
+                .chartVersion(newVersion)
+                .createdAt(oldSong != null ? oldSong.getCreatedAt() : now)
+                .songIdentityId(songIdentityId)
+                .movement(movements.get(rawKey))
+                .build());
         }
 
+        songBatchRepository.insertAll(inserts);
+        songBatchRepository.publishChartVersion(chartName, newVersion);
+        eventPublisher.publishEvent(new ChartVersionPublishedEvent(chartName, currentVersion, newVersion));
+
+        log.info("{} 차트 버전 {} 게시 - 전체: {}, 기존 곡: {}, 신규 곡: {}",
+            chartName, newVersion, inserts.size(), carriedOver, inserts.size() - carriedOver);
+        return inserts.size();
+    }
+
+    private static String songKey(String title, String artist) {
+        return title + "|" + artist;
+    }
+
+    // 중복 데이터 정리 (같은 제목+아티스트+차트 버전에서 최신 것만 남기기)
+    @Transactional
+    public int cleanupDuplicates() {
+        int deletedCount = songRepository.deleteDuplicates();
+        publishDataChanged(null, deletedCount);
         log.info("중복 데이터 {}개 정리 완료", deletedCount);
         return deletedCount;
     }
@@ -109,29 +300,14 @@ public class SongService {
     // 같은 순위의 중복 데이터 정리 (특정 차트에서 같은 순위에 여러 곡이 있는 경우)
     @Transactional
     public int cleanupSameRankingDuplicates(String chartName) {
-        List<Song> chartSongs = songRepository.findByChartName(chartName);
-        Map<Integer, List<Song>> rankingGroups = chartSongs.stream()
-            .collect(Collectors.groupingBy(Song::getRanking));
-
-        int deletedCount = 0;
-        for (Map.Entry<Integer, List<Song>> entry : rankingGroups.entrySet()) {
-            List<Song> songsAtSameRank = entry.getValue();
-            if (songsAtSameRank.size() > 1) {
-                // 같은 순위에 여러 곡이 있으면 가장 최신 것만 남기고 삭제
-                songsAtSameRank.sort((a, b) -> b.getChartDate().compareTo(a.getChartDate()));
-                List<Song> toDelete = songsAtSameRank.subList(1, songsAtSameRank.size());
-                songRepository.deleteAll(toDelete);
-                deletedCount += toDelete.size();
-
-                log.info("같은 순위({}) 중복 제거: {}개 삭제", entry.getKey(), toDelete.size());
-            }
-        }
-
+        int deletedCount = songRepository.deleteSameRankingDuplicates(chartName);
+        publishDataChanged(chartName, deletedCount);
         log.info("{} 차트에서 같은 순위 중복 {}개 정리 완료", chartName, deletedCount);
         return deletedCount;
     }
 
     // 크롤링 후 자동 데이터 정리 (중복, Unknown 등 모든 문제 해결)
+    // 모두 한 문장짜리 삭제라서 테이블을 메모리로 읽지 않음
     @Transactional
     public void autoCleanupAfterCrawling() {
         log.info("크롤링 후 자동 데이터 정리 시작");
@@ -142,58 +318,67 @@ public class SongService {
         // 2. 전체 중복 데이터 제거
         int duplicateCount = cleanupDuplicates();
 
-        // 3. 각 차트별 같은 순위 중복 제거
-        int billboardDuplicates = cleanupSameRankingDuplicates("billboard-japan");
-        int oriconDuplicates = cleanupSameRankingDuplicates("oricon");
+        // 3. 모든 차트의 같은 순위 중복 제거
+        int sameRankingDuplicates = songRepository.deleteAllSameRankingDuplicates();
+        publishDataChanged(null, sameRankingDuplicates);
 
         // 4. 빈 제목/아티스트 제거
         int emptyCount = cleanupEmptyData();
 
         log.info("자동 정리 완료 - Unknown: {}, 중복: {}, 같은순위: {}, 빈데이터: {}",
-            unknownCount, duplicateCount, billboardDuplicates + oriconDuplicates, emptyCount);
+            unknownCount, duplicateCount, sameRankingDuplicates, emptyCount);
     }
 
     // 빈 제목이나 아티스트 데이터 정리
     @Transactional
     public int cleanupEmptyData() {
-        List<Song> allSongs = songRepository.findAll();
-        List<Song> toDelete = allSongs.stream()
-            .filter(song ->
-                song.getTitle() == null || song.getTitle().trim().isEmpty() ||
-                song.getArtist() == null || song.getArtist().trim().isEmpty() ||
-                song.getTitle().trim().length() <= 1 ||
-                song.getArtist().trim().length() <= 1 ||
-                song.getTitle().equals(song.getArtist())
-            )
-            .toList();
-
-        songRepository.deleteAll(toDelete);
-        log.info("빈 데이터 {}개 정리됨", toDelete.size());
-        return toDelete.size();
+        int deletedCount = songRepository.deleteInvalidTitleOrArtist();
+        publishDataChanged(null, deletedCount);
+        log.info("빈 데이터 {}개 정리됨", deletedCount);
+        return deletedCount;
     }
 
     // 잘못된 데이터 삭제 (아티스트가 "Unknown"인 데이터)
+    @Transactional
     public int cleanupUnknownArtists() {
-        List<Song> unknownSongs = songRepository.findByArtist("Unknown");
-        songRepository.deleteAll(unknownSongs);
-        log.info("Unknown 아티스트 데이터 {}개 삭제됨", unknownSongs.size());
-        return unknownSongs.size();
+        int deletedCount = songRepository.deleteByArtistInBulk(UNKNOWN_ARTIST);
+        publishDataChanged(null, deletedCount);
+        log.info("Unknown 아티스트 데이터 {}개 삭제됨", deletedCount);
+        return deletedCount;
     }
 
-    // 특정 차트의 모든 데이터 삭제
+    // 특정 차트의 모든 데이터 삭제 (버전 포인터는 남겨서 다음 버전 번호가 이어지게 함)
+    @Transactional
     public int cleanupByChart(String chartName) {
-        List<Song> chartSongs = songRepository.findByChartName(chartName);
-        songRepository.deleteAll(chartSongs);
-        log.info("{} 차트 데이터 {}개 삭제됨", chartName, chartSongs.size());
-        return chartSongs.size();
+        int deletedCount = songRepository.deleteByChartNameInBulk(chartName);
+        publishDataChanged(chartName, deletedCount);
+        log.info("{} 차트 데이터 {}개 삭제됨", chartName, deletedCount);
+        return deletedCount;
     }
 
     // 전체 데이터 삭제 (주의!)
+    @Transactional
     public long cleanupAll() {
         long count = songRepository.count();
-        songRepository.deleteAll();
+        songRepository.deleteAllInBatch();
+        publishDataChanged(null, count);
         log.info("전체 데이터 {}개 삭제됨", count);
         return count;
     }
 
+    // 정리 작업으로 지워진 행이 있으면 커밋 후 메모리 저장소를 다시 읽게 함 (현재 버전이 바뀌었으면 버전을 올려서 게시)
+    private void publishDataChanged(String chartName, long deletedCount) {
+        if (deletedCount > 0) {
+            eventPublisher.publishEvent(new SongDataChangedEvent(chartName));
+        }
+    }
+
+    // 정리 작업에서 지우게 될 데이터는 처음부터 저장하지 않음
+    private static boolean isValidSong(SongRequestDto requestDto) {
+        String title = requestDto.getTitle() == null ? "" : requestDto.getTitle().trim();
+        String artist = requestDto.getArtist() == null ? "" : requestDto.getArtist().trim();
+        return title.length() > 1 && artist.length() > 1
+            && !artist.equals(UNKNOWN_ARTIST) && !requestDto.getTitle().equals(requestDto.getArtist());
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.example.jpopranker.song.service;
+
+import com.example.jpopranker.song.event.ChartVersionPublishedEvent;
+import com.example.jpopranker.song.repository.SongRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 새 버전이 커밋된 뒤 백그라운드에서 지난 버전을 한번에 삭제
+// 직전 버전은 아직 읽고 있는 요청이 있을 수 있으므로 그보다 오래된 버전만 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongVersionCleaner {
+
+    private final SongRepository songRepository;
+
+    @Async
+    @TransactionalEventListener
+    public void purgeOldVersions(ChartVersionPublishedEvent event) {
+        int deletedCount = songRepository.deleteVersionsBefore(event.getChartName(), event.getPreviousVersion());
+        if (deletedCount > 0) {
+            log.info("{} 차트 지난 버전 데이터 {}개 삭제 (버전 {} 미만)",
+                event.getChartName(), deletedCount, event.getPreviousVersion());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.jpopranker.song.store;
+
+import com.example.jpopranker.song.dto.response.SongResponseDto;
+import com.example.jpopranker.song.entity.RankMovement;
+import com.example.jpopranker.song.entity.Song;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+
+// 차트 한 버전의 읽기 전용 스냅샷
+// 엔티티 대신 열 단위 배열로 보관하고, 문자열은 intern해서 여러 차트/버전이 같은 인스턴스를 공유
+public final class ChartData {
+
+    // ranking이 없는 곡 (순위 변동 값이 없을 때도 사용)
+    private static final int NO_RANK = Integer.MIN_VALUE;
+
+    private static final byte FLAG_HAS_MOVEMENT = 1;
+    private static final byte FLAG_NEW_ENTRY = 1 << 1;
+    private static final byte FLAG_RE_ENTRY = 1 << 2;
+
+    @Getter
+    private final String chartName;
+
+    @Getter
+    private final long version;
+
+    // 이 버전이 게시된 시각
+    @Getter
+    private final LocalDateTime updatedAt;
+
+    private final long[] ids;
+    private final String[] titles;
+    private final String[] artists;
+    private final int[] rankings;
+    private final LocalDateTime[] chartDates;
+
+    // 곡 ID (없으면 0)
+    private final long[] songIdentityIds;
+
+    // 순위 변동 (정수는 NO_RANK, 플래그는 비트로 보관)
+    private final int[] previousRankings;
+    private final int[] peakRankings;
+    private final int[] weeksOnChart;
+    private final byte[] flags;
+
+    // 이 버전의 응답 본문 (JSON, gzip, ETag)
+    @Getter
+    private final ChartPayload payload;
+
+    private ChartData(String chartName, long version, LocalDateTime updatedAt, long[] ids, String[] titles,
+        String[] artists, int[] rankings, LocalDateTime[] chartDates, long[] songIdentityIds, int[] previousRankings,
+        int[] peakRankings, int[] weeksOnChart, byte[] flags, ChartPayloadWriter payloadWriter) {
+        this.chartName = chartName.intern();
+        this.version = version;
+        this.updatedAt = updatedAt;
+        this.ids = ids;
+        this.titles = titles;
+        this.artists = artists;
+        this.rankings = rankings;
+        this.chartDates = chartDates;
+        this.songIdentityIds = songIdentityIds;
+        this.previousRankings = previousRankings;
+        this.peakRankings = peakRankings;
+        this.weeksOnChart = weeksOnChart;
+        this.flags = flags;
+        this.payload = payloadWriter.write(version, toResponse());
+    }
+
+    // 랭킹 순으로 정렬해서 생성 (ranking이 없는 곡은 앞쪽, DB의 ORDER BY ranking과 같은 순서)
+    public static ChartData of(String chartName, long version, LocalDateTime updatedAt, List<Song> songs,
+        ChartPayloadWriter payloadWriter) {
+        List<Song> sorted = new ArrayList<>(songs);
+        sorted.sort(Comparator.comparing(Song::getRanking, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Song::getId));
+
+        int size = sorted.size();
+        long[] ids = new long[size];
+        String[] titles = new String[size];
+        String[] artists = new String[size];
+        int[] rankings = new int[size];
+        LocalDateTime[] chartDates = new LocalDateTime[size];
+        long[] songIdentityIds = new long[size];
+        int[] previousRankings = new int[size];
+        int[] peakRankings = new int[size];
+        int[] weeksOnChart = new int[size];
+        byte[] flags = new byte[size];
+        for (int i = 0; i < size; i++) {
+            Song song = sorted.get(i);
+            ids[i] = song.getId();
+            titles[i] = song.getTitle().intern();
+            artists[i] = song.getArtist().intern();
+            rankings[i] = orNoRank(song.getRanking());
+            chartDates[i] = song.getChartDate();
+            songIdentityIds[i] = song.getSongIdentityId() == null ? 0 : song.getSongIdentityId();
+
+            RankMovement movement = song.getMovement();
+            if (movement == null) {
+                previousRankings[i] = NO_RANK;
+                peakRankings[i] = NO_RANK;
+                weeksOnChart[i] = NO_RANK;
+                continue;
+            }
+            previousRankings[i] = orNoRank(movement.getPreviousRanking());
+            peakRankings[i] = orNoRank(movement.getPeakRanking());
+            weeksOnChart[i] = orNoRank(movement.getWeeksOnChart());
+            flags[i] = (byte) (FLAG_HAS_MOVEMENT
+                | (Boolean.TRUE.equals(movement.getNewEntry()) ? FLAG_NEW_ENTRY : 0)
+                | (Boolean.TRUE.equals(movement.getReEntry()) ? FLAG_RE_ENTRY : 0));
+        }
+        return new ChartData(chartName, version, updatedAt, ids, titles, artists, rankings, chartDates,
+            songIdentityIds, previousRankings, peakRankings, weeksOnChart, flags, payloadWriter);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    public String getTitle(int index) {
+        return titles[index];
+    }
+
+    public String getArtist(int index) {
+        return artists[index];
+    }
+
+    public long getSongIdentityId(int index) {
+        return songIdentityIds[index];
+    }
+
+    public Integer getRanking(int index) {
+        return toInteger(rankings[index]);
+    }
+
+    public Integer getWeeksOnChart(int index) {
+        return toInteger(weeksOnChart[index]);
+    }
+
+    // 버전이 달라도 같은 곡인지 비교하는 키 (id는 버전마다 새로 발급됨)
+    public String getSongKey(int index) {
+        return titles[index] + "|" + artists[index];
+    }
+
+    public SongResponseDto toResponse(int index) {
+        SongResponseDto.SongResponseDtoBuilder builder = SongResponseDto.builder()
+            .id(ids[index])
+            .title(titles[index])
+            .artist(artists[index])
+            .ranking(getRanking(index))
+            .chartName(chartName)
+            .chartDate(chartDates[index])
+            .songIdentityId(songIdentityIds[index] == 0 ? null : songIdentityIds[index]);
+        if ((flags[index] & FLAG_HAS_MOVEMENT) != 0) {
+            Integer previousRanking = toInteger(previousRankings[index]);
+            builder.previousRanking(previousRanking)
+                .rankDelta(previousRanking != null && rankings[index] != NO_RANK
+                    ? previousRanking - rankings[index] : null)
+                .peakRanking(toInteger(peakRankings[index]))
+                .weeksOnChart(toInteger(weeksOnChart[index]))
+                .newEntry((flags[index] & FLAG_NEW_ENTRY) != 0)
+                .reEntry((flags[index] & FLAG_RE_ENTRY) != 0);
+        }
+        return builder.build();
+    }
+
+    private static int orNoRank(Integer value) {
+        return value == null ? NO_RANK : value;
+    }
+
+    private static Integer toInteger(int value) {
+        return value == NO_RANK ? null : value;
+    }
+
+    public List<SongResponseDto> toResponse() {
+        List<SongResponseDto> songs = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            songs.add(toResponse(i));
+        }
+        return songs;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.jpopranker.song.store;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 두 차트 버전 사이의 변경분 (새로 들어온 곡, 순위가 바뀐 곡, 빠진 곡)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ChartDiff {
+
+    private final String chartName;
+
+    private final long fromVersion;
+
+    private final long toVersion;
+
+    private final List<Change> inserted;
+
+    private final List<Change> moved;
+
+    private final List<Change> dropped;
+
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Change {
+
+        // 새 버전의 행 id (빠진 곡은 이전 버전의 id)
+        private final long id;
+
+        private final String title;
+
+        private final String artist;
+
+        private final Integer ranking;
+
+        // 순위가 바뀐 곡의 이전 순위
+        private final Integer previousRanking;
+    }
+
+    // 곡 ID로 해시 조인해서 비교 (표기만 바뀐 곡도 같은 곡으로 봄), previous가 null이면 전부 새 곡
+    public static ChartDiff between(ChartData previous, ChartData current) {
+        Map<Object, Integer> previousIndex = new HashMap<>();
+        if (previous != null) {
+            for (int i = 0; i < previous.size(); i++) {
+                previousIndex.putIfAbsent(diffKey(previous, i), i);
+            }
+        }
+
+        List<Change> inserted = new ArrayList<>();
+        List<Change> moved = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            Integer previousPosition = previousIndex.remove(diffKey(current, i));
+            if (previousPosition == null) {
+                inserted.add(new Change(current.getId(i), current.getTitle(i), current.getArtist(i),
+                    current.getRanking(i), null));
+            } else if (!Objects.equals(previous.getRanking(previousPosition), current.getRanking(i))) {
+                moved.add(new Change(current.getId(i), current.getTitle(i), current.getArtist(i),
+                    current.getRanking(i), previous.getRanking(previousPosition)));
+            }
+        }
+
+        List<Change> dropped = new ArrayList<>();
+        for (int position : previousIndex.values().stream().sorted().toList()) {
+            dropped.add(new Change(previous.getId(position), previous.getTitle(position), previous.getArtist(position),
+                previous.getRanking(position), null));
+        }
+
+        return new ChartDiff(current.getChartName(), previous == null ? 0 : previous.getVersion(),
+            current.getVersion(), inserted, moved, dropped);
+    }
+
+    // 곡 ID가 없던 시절에 저장된 행은 원본 제목+아티스트로 비교
+    private static Object diffKey(ChartData chart, int index) {
+        long songIdentityId = chart.getSongIdentityId(index);
+        return songIdentityId != 0 ? songIdentityId : chart.getSongKey(index);
+    }
+
+    public boolean isEmpty() {
+        return inserted.isEmpty() && moved.isEmpty() && dropped.isEmpty();
+    }
+}
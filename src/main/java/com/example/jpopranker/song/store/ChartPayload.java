@@ -0,0 +1,39 @@
+package com.example.jpopranker.song.store;
+
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 미리 직렬화해 둔 응답 본문 (JSON + gzip) 과 ETag
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ChartPayload {
+
+    // 차트 버전 (변경분 조회의 since 값으로 사용)
+    private final long version;
+
+    private final byte[] json;
+
+    private final byte[] gzip;
+
+    // 따옴표 포함한 강한 ETag
+    private final String etag;
+
+    // 표현(인코딩)마다 다른 ETag (gzip 본문은 "-gz"를 붙임)
+    public String getEtag(boolean gzip) {
+        return gzip ? etag.substring(0, etag.length() - 1) + "-gz\"" : etag;
+    }
+
+    // If-None-Match 헤더 값 중 하나라도 해당 표현의 ETag와 같으면 true
+    public boolean matches(String ifNoneMatch, boolean gzip) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String expected = getEtag(gzip);
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> tag.equals("*") || tag.equals(expected));
+    }
+}
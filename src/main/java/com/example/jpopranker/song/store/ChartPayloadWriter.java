@@ -0,0 +1,54 @@
+package com.example.jpopranker.song.store;
+
+import com.example.jpopranker.song.dto.response.SongResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 차트 버전이 바뀔 때 한번만 직렬화/압축 (요청마다 Jackson을 돌리지 않음)
+@Component
+@RequiredArgsConstructor
+public class ChartPayloadWriter {
+
+    // 컨트롤러와 같은 설정(날짜 형식 등)으로 직렬화하기 위해 스프링의 ObjectMapper 사용
+    private final ObjectMapper objectMapper;
+
+    // ETag = 차트 버전 + 본문 해시 (같은 버전 안에서 곡이 추가/정리되어도 값이 바뀜)
+    public ChartPayload write(long version, List<SongResponseDto> songs) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(songs);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("차트 응답 직렬화 실패", e);
+        }
+        return new ChartPayload(version, json, gzip(json), "\"v" + version + "-" + hash(json) + "\"");
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.jpopranker.song.store;
+
+import com.example.jpopranker.song.entity.ChartVersion;
+import com.example.jpopranker.song.event.ChartDataReplacedEvent;
+import com.example.jpopranker.song.event.ChartVersionPublishedEvent;
+import com.example.jpopranker.song.event.ChartsReloadedEvent;
+import com.example.jpopranker.song.event.SongDataChangedEvent;
+import com.example.jpopranker.song.repository.ChartVersionRepository;
+import com.example.jpopranker.song.repository.SongBatchRepository;
+import com.example.jpopranker.song.repository.SongRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+// 현재 차트 데이터를 메모리에 들고 있는 읽기 전용 저장소
+// 조회는 맵에서 꺼내기만 하고(락 없음), 쓰기 쪽 트랜잭션이 커밋되면 차트 단위로 통째로 교체
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartStore {
+
+    private final SongRepository songRepository;
+    private final SongBatchRepository songBatchRepository;
+    private final ChartVersionRepository chartVersionRepository;
+    private final ChartPayloadWriter payloadWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 구독자별 버퍼 크기 (느린 구독자는 오래된 변경분부터 버림)
+    private static final int SUBSCRIBER_BUFFER_SIZE = 32;
+
+    // 변경분 조회용으로 보관하는 지난 버전 수
+    private static final int MAX_HISTORY = 10;
+
+    private final Map<String, ChartData> charts = new ConcurrentHashMap<>();
+
+    // DB에 없고 메모리에서 만들어 게시하는 차트 (합산 차트 등)
+    private final Set<String> derivedCharts = ConcurrentHashMap.newKeySet();
+
+    // 차트별 지난 버전 (오래된 것부터, 현재 버전 제외)
+    private final Map<String, List<ChartData>> history = new ConcurrentHashMap<>();
+
+    // 없는 차트 응답 (처음 요청할 때 한 번만 만듦, 필드가 모두 final이라 잠금 없이 공유)
+    private volatile ChartPayload emptyPayload;
+
+    // 모든 구독자가 공유하는 변경분 스트림 (업데이트 한 번에 이벤트 한 번)
+    private final Sinks.Many<ChartDiff> updates = Sinks.many().multicast().directBestEffort();
+
+    public Optional<ChartData> getChart(String chartName) {
+        return Optional.ofNullable(charts.get(chartName));
+    }
+
+    public Collection<ChartData> getCharts() {
+        return charts.values();
+    }
+
+    // 보관 중인 지난 버전 조회 (너무 오래된 버전이면 empty)
+    public Optional<ChartData> getPastVersion(String chartName, long version) {
+        return history.getOrDefault(chartName, List.of()).stream()
+            .filter(chart -> chart.getVersion() == version)
+            .findFirst();
+    }
+
+    // 없는 차트는 빈 배열 응답
+    public ChartPayload getChartPayload(String chartName) {
+        ChartData chart = charts.get(chartName);
+        if (chart != null) {
+            return chart.getPayload();
+        }
+        ChartPayload empty = emptyPayload;
+        if (empty == null) {
+            empty = payloadWriter.write(0, List.of());
+            emptyPayload = empty;
+        }
+        return empty;
+    }
+
+    // 특정 차트의 변경분 스트림
+    // 구독자마다 버퍼를 따로 두므로 한 구독자가 느려도 다른 구독자나 발행 쪽은 기다리지 않음
+    public Flux<ChartDiff> updates(String chartName) {
+        return updates.asFlux()
+            .filter(diff -> diff.getChartName().equals(chartName))
+            .onBackpressureBuffer(SUBSCRIBER_BUFFER_SIZE, dropped ->
+                log.debug("{} 차트 구독자 버퍼 초과, 변경분 버림 (버전 {})", chartName, dropped.getToVersion()),
+                BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    // 모든 차트의 현재 버전을 불러옴 (시작 시, 전체 정리 작업 후)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        Set<String> chartNames = new HashSet<>();
+        for (ChartVersion chartVersion : chartVersionRepository.findAll()) {
+            // 메모리에서 만드는 차트는 버전 번호만 DB에 있으므로 불러오지 않음
+            if (derivedCharts.contains(chartVersion.getChartName())) {
+                continue;
+            }
+            load(chartVersion.getChartName(), chartVersion.getCurrentVersion(), chartVersion.getUpdatedAt(), true);
+            chartNames.add(chartVersion.getChartName());
+        }
+        chartNames.addAll(derivedCharts);
+        charts.keySet().retainAll(chartNames);
+        history.keySet().retainAll(chartNames);
+        log.info("차트 저장소 초기화 완료 - 차트 {}개", charts.size());
+        eventPublisher.publishEvent(new ChartsReloadedEvent());
+    }
+
+    // 새 버전이 커밋되면 해당 차트만 교체
+    @TransactionalEventListener
+    public void onVersionPublished(ChartVersionPublishedEvent event) {
+        load(event.getChartName(), event.getVersion(), LocalDateTime.now(), false);
+    }
+
+    // 버전은 그대로인데 행이 바뀐 경우 (곡 추가, 정리 작업)
+    @TransactionalEventListener
+    public void onDataChanged(SongDataChangedEvent event) {
+        if (event.getChartName() != null) {
+            chartVersionRepository.findById(event.getChartName())
+                .ifPresent(chartVersion -> reloadCurrentVersion(chartVersion, false));
+            return;
+        }
+        for (ChartVersion chartVersion : chartVersionRepository.findAll()) {
+            if (!derivedCharts.contains(chartVersion.getChartName())) {
+                reloadCurrentVersion(chartVersion, true);
+            }
+        }
+        eventPublisher.publishEvent(new ChartsReloadedEvent());
+    }
+
+    // 같은 버전 번호로 내용만 바꾸면 since=현재 버전으로 변경분을 묻는 쪽은 바뀐 것을 알 수 없음
+    // -> 메모리의 차트와 내용이 다르면 버전을 올려서 게시 (이전 내용은 지난 버전으로 보관됨)
+    private synchronized void reloadCurrentVersion(ChartVersion chartVersion, boolean reload) {
+        String chartName = chartVersion.getChartName();
+        long version = chartVersion.getCurrentVersion();
+        ChartData loaded = ChartData.of(chartName, version, chartVersion.getUpdatedAt(),
+            songRepository.findByChartNameAndChartVersion(chartName, version), payloadWriter);
+        ChartData previous = charts.get(chartName);
+        if (previous != null && previous.getVersion() == version
+            && !previous.getPayload().getEtag().equals(loaded.getPayload().getEtag())) {
+            load(chartName, songBatchRepository.bumpChartVersion(chartName, version), LocalDateTime.now(), reload);
+            return;
+        }
+        replace(loaded, reload);
+    }
+
+    // 메모리에서 만들어 게시할 차트 이름 등록 (시작 시 DB에서 불러오는 대상에서 빠짐)
+    public void registerDerived(String chartName) {
+        derivedCharts.add(chartName);
+    }
+
+    // DB를 거치지 않고 메모리에서 만든 차트를 게시 (DB 차트와 같은 방식으로 조회/변경분/구독 가능)
+    public synchronized void publish(ChartData chart) {
+        derivedCharts.add(chart.getChartName());
+        replace(chart, false);
+    }
+
+    private synchronized void load(String chartName, long version, LocalDateTime updatedAt, boolean reload) {
+        replace(ChartData.of(chartName, version, updatedAt,
+            songRepository.findByChartNameAndChartVersion(chartName, version), payloadWriter), reload);
+    }
+
+    // 교체와 발행은 한 번에 하나씩 (조회는 charts 맵만 읽으므로 기다리지 않음)
+    private synchronized void replace(ChartData loaded, boolean reload) {
+        String chartName = loaded.getChartName();
+        long version = loaded.getVersion();
+
+        // 커밋 순서와 이벤트 처리 순서가 다를 수 있으므로 더 오래된 버전으로는 되돌리지 않음
+        ChartData previous = charts.get(chartName);
+        if (previous != null && loaded.getVersion() < previous.getVersion()) {
+            return;
+        }
+        charts.put(chartName, loaded);
+        if (previous != null && previous.getVersion() < loaded.getVersion()) {
+            remember(previous);
+        }
+        log.debug("{} 차트 버전 {} 적재 ({}곡)", chartName, version, loaded.size());
+
+        ChartDiff diff = ChartDiff.between(previous, loaded);
+        if (!diff.isEmpty()) {
+            updates.tryEmitNext(diff);
+        }
+        // 이 차트에서 파생된 차트가 바로 다시 계산되도록 같은 스레드에서 알림
+        eventPublisher.publishEvent(new ChartDataReplacedEvent(chartName, previous, loaded, reload));
+    }
+
+    private void remember(ChartData previous) {
+        List<ChartData> versions = new ArrayList<>(history.getOrDefault(previous.getChartName(), List.of()));
+        versions.add(previous);
+        if (versions.size() > MAX_HISTORY) {
+            versions.remove(0);
+        }
+        history.put(previous.getChartName(), List.copyOf(versions));
+    }
+}
@@ -0,0 +1,26 @@
+-- 버전 컬럼이 생기기 전에 저장된 데이터는 버전 0으로 취급
+UPDATE songs SET chart_version = 0 WHERE chart_version IS NULL;
+
+INSERT IGNORE INTO chart_versions (chart_name, current_version, updated_at)
+SELECT DISTINCT chart_name, 0, NOW() FROM songs WHERE chart_name IS NOT NULL;
+
+-- ddl-auto=update는 기존 컬럼의 collation을 바꾸지 않으므로 직접 변경 (정규화 키가 달라도 유니크 키에 걸려 무시되던 문제)
+-- 테이블을 다시 쓰는 작업이라 아직 바뀌지 않은 컬럼이 있을 때만 실행
+SET @alter_identity_collation = (SELECT IF(COUNT(*) > 0,
+    'ALTER TABLE song_identities MODIFY title VARCHAR(255) COLLATE utf8mb4_bin NOT NULL, MODIFY artist VARCHAR(255) COLLATE utf8mb4_bin NOT NULL, MODIFY normalized_key VARCHAR(500) COLLATE utf8mb4_bin',
+    'SELECT 1')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'song_identities'
+      AND column_name IN ('title', 'artist', 'normalized_key') AND collation_name <> 'utf8mb4_bin');
+PREPARE alter_identity_collation FROM @alter_identity_collation;
+EXECUTE alter_identity_collation;
+DEALLOCATE PREPARE alter_identity_collation;
+
+-- songs의 유니크 키를 원본 표기(title, artist)에서 곡 ID로 변경 (이전 키가 남아 있으면 삭제)
+SET @drop_songs_title_key = (SELECT IF(COUNT(*) > 0,
+    'ALTER TABLE songs DROP INDEX uk_songs_chart_version_title_artist', 'SELECT 1')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'songs' AND index_name = 'uk_songs_chart_version_title_artist');
+PREPARE drop_songs_title_key FROM @drop_songs_title_key;
+EXECUTE drop_songs_title_key;
+DEALLOCATE PREPARE drop_songs_title_key;
@@ -0,0 +1,218 @@
+package com.example.jpopranker.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.jpopranker.analytics.entity.ArtistChartStats;
+import com.example.jpopranker.analytics.entity.SongChartStats;
+import com.example.jpopranker.analytics.repository.AnalyticsBatchRepository;
+import com.example.jpopranker.analytics.repository.ArtistChartStatsRepository;
+import com.example.jpopranker.analytics.repository.SongChartStatsRepository;
+import com.example.jpopranker.chart.entity.ChartEntry;
+import com.example.jpopranker.chart.entity.ChartSnapshot;
+import com.example.jpopranker.chart.entity.SongIdentity;
+import com.example.jpopranker.chart.event.ChartSnapshotRecordedEvent;
+import com.example.jpopranker.chart.event.SongIdentitiesAddedEvent;
+import com.example.jpopranker.chart.identity.SongIdentityIndex;
+import com.example.jpopranker.chart.repository.ChartEntryRepository;
+import com.example.jpopranker.chart.repository.ChartEntryRepository.SongEntry;
+import com.example.jpopranker.chart.repository.ChartEntryRepository.SongYearTally;
+import com.example.jpopranker.chart.repository.ChartSnapshotRepository;
+import com.example.jpopranker.chart.repository.SongIdentityRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class AnalyticsServiceTest {
+
+    private static final String CHART = "oricon";
+    private static final LocalDate JAN_01 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate JAN_08 = LocalDate.of(2024, 1, 8);
+    private static final LocalDate JAN_15 = LocalDate.of(2024, 1, 15);
+    private static final LocalDate JAN_22 = LocalDate.of(2024, 1, 22);
+
+    private final AnalyticsBatchRepository analyticsBatchRepository = mock(AnalyticsBatchRepository.class);
+    private final ChartSnapshotRepository chartSnapshotRepository = mock(ChartSnapshotRepository.class);
+    private final ChartEntryRepository chartEntryRepository = mock(ChartEntryRepository.class);
+    private final SongIdentityRepository songIdentityRepository = mock(SongIdentityRepository.class);
+    private final SongIdentityIndex songIdentityIndex = mock(SongIdentityIndex.class);
+
+    private AnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AnalyticsService(mock(SongChartStatsRepository.class), mock(ArtistChartStatsRepository.class),
+            analyticsBatchRepository, chartSnapshotRepository, chartEntryRepository, songIdentityRepository,
+            songIdentityIndex);
+
+        when(chartSnapshotRepository.findChartNames()).thenReturn(List.of(CHART));
+        when(chartSnapshotRepository.findByChartNameOrderByChartDateDesc(CHART))
+            .thenReturn(List.of(snapshot(JAN_22), snapshot(JAN_15), snapshot(JAN_08), snapshot(JAN_01)));
+        when(songIdentityRepository.findAllById(any())).thenReturn(List.of(identity(1, "YOASOBI"),
+            identity(2, "YOASOBI"), identity(3, "Ado")));
+        when(songIdentityIndex.artistKeyOf(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0)
+            .toLowerCase());
+    }
+
+    @Test
+    void songStatsTrackRunsAcrossSnapshots() {
+        when(chartEntryRepository.findSongIds(CHART)).thenReturn(List.of(1L));
+        // 1월 15일에 빠졌다가 다시 들어옴
+        when(chartEntryRepository.findSongEntries(eq(CHART), anyCollection())).thenReturn(List.of(
+            entry(1, JAN_01, 5), entry(1, JAN_08, 3), entry(1, JAN_22, 2)));
+
+        service.rebuild();
+
+        SongChartStats stats = captureSongStats().get(0);
+        assertThat(stats.getEntryCount()).isEqualTo(3);
+        assertThat(stats.getBestRanking()).isEqualTo(2);
+        assertThat(stats.getFirstChartDate()).isEqualTo(JAN_01);
+        assertThat(stats.getLastChartDate()).isEqualTo(JAN_22);
+        assertThat(stats.getLastRanking()).isEqualTo(2);
+        assertThat(stats.getCurrentRun()).isEqualTo(1);
+        assertThat(stats.getLongestRun()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuildSumsArtistStatsFromSongYearTallies() {
+        when(chartEntryRepository.findSongYearTallies(CHART)).thenReturn(List.of(
+            tally(1, 2024, 4, 1, 4), tally(2, 2024, 3, 0, 2), tally(3, 2024, 2, 0, 0)));
+
+        service.rebuild();
+
+        verify(analyticsBatchRepository).deleteArtistStats(CHART);
+        assertThat(captureArtistStats(2024))
+            .extracting(ArtistChartStats::getArtistKey, ArtistChartStats::getEntryCount,
+                ArtistChartStats::getNumberOneCount, ArtistChartStats::getTop10Count)
+            .containsExactly(tuple("yoasobi", 7, 1, 6), tuple("ado", 2, 0, 0));
+    }
+
+    @Test
+    void replacedEntriesAreSubtractedFromArtistStats() {
+        ChartSnapshotRecordedEvent event = new ChartSnapshotRecordedEvent(CHART, JAN_08,
+            List.of(chartEntry(1, JAN_08, 3), chartEntry(3, JAN_08, 12)),
+            List.of(chartEntry(1, JAN_08, 1)));
+
+        service.onSnapshotRecorded(event);
+
+        // 1위로 다시 저장된 곡은 엔트리 수가 그대로, Ado 곡은 빠짐
+        assertThat(captureArtistStats(2024))
+            .extracting(ArtistChartStats::getArtistKey, ArtistChartStats::getEntryCount,
+                ArtistChartStats::getNumberOneCount, ArtistChartStats::getTop10Count)
+            .containsExactly(tuple("yoasobi", 0, 1, 0), tuple("ado", -1, 0, 0));
+    }
+
+    @Test
+    void identityResetRecomputesOnlyMergedSongs() {
+        service.onIdentitiesReset(new SongIdentitiesAddedEvent(List.of(), true, Set.of(2L)));
+
+        ArgumentCaptor<Collection<Long>> songIds = captor(Collection.class);
+        verify(chartEntryRepository).findSongEntries(eq(CHART), songIds.capture());
+        assertThat(songIds.getValue()).containsExactly(2L);
+        verify(chartEntryRepository, never()).findSongIds(anyString());
+        verify(chartEntryRepository, never()).findAll();
+    }
+
+    @Test
+    void identityResetWithoutMergesDoesNothing() {
+        service.onIdentitiesReset(new SongIdentitiesAddedEvent(List.of(), true, Set.of()));
+
+        verify(analyticsBatchRepository, never()).deleteOrphanSongStats();
+        verify(chartEntryRepository, never()).findSongEntries(anyString(), anyCollection());
+    }
+
+    private List<SongChartStats> captureSongStats() {
+        ArgumentCaptor<List<SongChartStats>> stats = captor(List.class);
+        verify(analyticsBatchRepository).upsertSongStats(stats.capture());
+        return stats.getValue();
+    }
+
+    private List<ArtistChartStats> captureArtistStats(int year) {
+        ArgumentCaptor<List<ArtistChartStats>> stats = captor(List.class);
+        verify(analyticsBatchRepository).addArtistStats(eq(CHART), eq(year), stats.capture());
+        return stats.getValue();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ArgumentCaptor<T> captor(Class type) {
+        return ArgumentCaptor.forClass(type);
+    }
+
+    private static ChartSnapshot snapshot(LocalDate chartDate) {
+        return ChartSnapshot.builder().chartName(CHART).chartDate(chartDate).build();
+    }
+
+    private static SongIdentity identity(long id, String artist) {
+        return SongIdentity.builder().id(id).title("song-" + id).artist(artist).build();
+    }
+
+    private static ChartEntry chartEntry(long songIdentityId, LocalDate chartDate, int ranking) {
+        return ChartEntry.builder()
+            .chartName(CHART)
+            .chartDate(chartDate)
+            .ranking(ranking)
+            .songIdentityId(songIdentityId)
+            .build();
+    }
+
+    private static SongEntry entry(long songIdentityId, LocalDate chartDate, int ranking) {
+        return new SongEntry() {
+            @Override
+            public Long getSongIdentityId() {
+                return songIdentityId;
+            }
+
+            @Override
+            public LocalDate getChartDate() {
+                return chartDate;
+            }
+
+            @Override
+            public Integer getRanking() {
+                return ranking;
+            }
+        };
+    }
+
+    private static SongYearTally tally(long songIdentityId, int chartYear, long entryCount, long numberOneCount,
+        long top10Count) {
+        return new SongYearTally() {
+            @Override
+            public Long getSongIdentityId() {
+                return songIdentityId;
+            }
+
+            @Override
+            public Integer getChartYear() {
+                return chartYear;
+            }
+
+            @Override
+            public Long getEntryCount() {
+                return entryCount;
+            }
+
+            @Override
+            public Long getNumberOneCount() {
+                return numberOneCount;
+            }
+
+            @Override
+            public Long getTop10Count() {
+                return top10Count;
+            }
+        };
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.jpopranker.chart.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.jpopranker.chart.entity.ArtistAlias;
+import com.example.jpopranker.chart.entity.SongIdentity;
+import com.example.jpopranker.chart.repository.ArtistAliasRepository;
+import com.example.jpopranker.chart.repository.ChartBatchRepository;
+import com.example.jpopranker.chart.repository.SongIdentityRepository;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class SongIdentityIndexTest {
+
+    private final SongIdentityRepository songIdentityRepository = mock(SongIdentityRepository.class);
+    private final ArtistAliasRepository artistAliasRepository = mock(ArtistAliasRepository.class);
+    private final ChartBatchRepository chartBatchRepository = mock(ChartBatchRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final SongIdentityIndex index = new SongIdentityIndex(
+        songIdentityRepository, artistAliasRepository, chartBatchRepository, eventPublisher);
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        // INSERT IGNORE 후 재조회: 요청한 키마다 새 ID를 돌려줌
+        when(songIdentityRepository.findByNormalizedKeyIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream()
+                .map(key -> SongIdentity.builder().id(nextId.getAndIncrement()).normalizedKey(key).build())
+                .toList();
+        });
+        // 스프링 트랜잭션 없이 동기화만 직접 돌림
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(index);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void resolveAllDedupesVariantSpellingsIntoOneIdentity() {
+        Map<String, Long> ids = index.resolveAll(List.of(
+            song("Lemon", "米津玄師"),
+            song("ＬＥＭＯＮ", "米津玄師"),
+            song("lemon (feat. Someone)", " 米津玄師 ")));
+
+        ArgumentCaptor<List<SongIdentity>> inserted = listCaptor();
+        verify(chartBatchRepository).insertIdentities(inserted.capture());
+        assertThat(inserted.getValue()).hasSize(1);
+        assertThat(inserted.getValue().get(0).getNormalizedKey()).isEqualTo("lemon|米津玄師");
+        assertThat(ids).hasSize(3);
+        assertThat(ids.values()).containsOnly(1L);
+    }
+
+    @Test
+    void resolveAllSkipsKnownKeysAfterCommit() {
+        Long first = index.resolve("Lemon", "米津玄師");
+        complete(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(index.resolve("ＬＥＭＯＮ", "米津玄師")).isEqualTo(first);
+        verify(chartBatchRepository, times(1)).insertIdentities(any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void indexIsNotUpdatedWhenTransactionRollsBack() {
+        index.resolve("Lemon", "米津玄師");
+        complete(false);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(TransactionSynchronizationManager.hasResource(index)).isFalse();
+
+        // 롤백된 ID는 공유 인덱스에 없으므로 다시 등록
+        TransactionSynchronizationManager.initSynchronization();
+        index.resolve("Lemon", "米津玄師");
+        verify(chartBatchRepository, times(2)).insertIdentities(any());
+    }
+
+    @Test
+    void rebuildAppliesArtistAliases() {
+        when(artistAliasRepository.findAll()).thenReturn(List.of(
+            ArtistAlias.builder().aliasName("kenshi yonezu").canonicalName("米津玄師").build()));
+        when(songIdentityRepository.findAll(any(Sort.class))).thenReturn(List.of());
+
+        index.rebuild();
+
+        assertThat(index.keyOf("Lemon", "Kenshi  Yonezu")).isEqualTo(index.keyOf("Lemon", "米津玄師"));
+        assertThat(index.artistKeyOf("ＫＥＮＳＨＩ ＹＯＮＥＺＵ")).isEqualTo("米津玄師");
+    }
+
+    @Test
+    void rebuildMergesIdentitiesThatShareKey() {
+        when(artistAliasRepository.findAll()).thenReturn(List.of(
+            ArtistAlias.builder().aliasName("kenshi yonezu").canonicalName("米津玄師").build()));
+        when(songIdentityRepository.findAll(any(Sort.class))).thenReturn(List.of(
+            SongIdentity.builder().id(10L).title("Lemon").artist("米津玄師").normalizedKey("lemon|米津玄師").build(),
+            SongIdentity.builder().id(11L).title("Lemon").artist("Kenshi Yonezu")
+                .normalizedKey("lemon|kenshi yonezu").build()));
+
+        index.rebuild();
+
+        verify(chartBatchRepository).mergeIdentity(11L, 10L);
+        assertThat(index.resolve("lemon", "Kenshi Yonezu")).isEqualTo(10L);
+        verify(chartBatchRepository, never()).insertIdentities(any());
+    }
+
+    @Test
+    void rebuildDropsDuplicateCurrentChartRowThatCannotMove() {
+        // 두 곡 ID가 같은 현재 차트 버전에 모두 있으면 songs 유니크 키 때문에 옮길 수 없는 행이 생김
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        SongIdentityIndex jdbcIndex = new SongIdentityIndex(
+            songIdentityRepository, artistAliasRepository, new ChartBatchRepository(jdbcTemplate), eventPublisher);
+        when(artistAliasRepository.findAll()).thenReturn(List.of(
+            ArtistAlias.builder().aliasName("kenshi yonezu").canonicalName("米津玄師").build()));
+        when(songIdentityRepository.findAll(any(Sort.class))).thenReturn(List.of(
+            SongIdentity.builder().id(10L).title("Lemon").artist("米津玄師").normalizedKey("lemon|米津玄師").build(),
+            SongIdentity.builder().id(11L).title("Lemon").artist("Kenshi Yonezu")
+                .normalizedKey("lemon|kenshi yonezu").build()));
+
+        jdbcIndex.rebuild();
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(startsWith("UPDATE IGNORE songs"), eq(10L), eq(11L));
+        order.verify(jdbcTemplate).update(startsWith("DELETE FROM songs"), eq(11L));
+        order.verify(jdbcTemplate).update(startsWith("DELETE FROM song_identities"), eq(11L));
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE songs"), any(Object[].class));
+    }
+
+    @Test
+    void resolveAllFailsWhenKeyStaysUnresolved() {
+        when(songIdentityRepository.findByNormalizedKeyIn(anyCollection())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> index.resolve("Lemon", "米津玄師"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("lemon|米津玄師");
+    }
+
+    private static SongRequestDto song(String title, String artist) {
+        return new SongRequestDto(title, artist, null, null);
+    }
+
+    // 트랜잭션 매니저가 하는 것처럼 커밋/롤백 콜백 호출
+    private static void complete(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        int status = committed ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<SongIdentity>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.jpopranker.chart.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SongNormalizerTest {
+
+    @Test
+    void normalizeFoldsWidthCaseAndWhitespace() {
+        // 전각 영숫자/반각 가타카나는 NFKC로 통일
+        assertThat(SongNormalizer.normalize("ＬＥＭＯＮ")).isEqualTo("lemon");
+        assertThat(SongNormalizer.normalize("ｱｲﾄﾞﾙ")).isEqualTo("アイドル");
+        assertThat(SongNormalizer.normalize("  Bling-Bang-Bang-Born 　 ")).isEqualTo("bling-bang-bang-born");
+        assertThat(SongNormalizer.normalize("Mrs.  GREEN\tAPPLE")).isEqualTo("mrs. green apple");
+        assertThat(SongNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void normalizeTitleStripsFeaturing() {
+        assertThat(SongNormalizer.normalizeTitle("Song (feat. Someone)")).isEqualTo("song");
+        assertThat(SongNormalizer.normalizeTitle("Song [Feat Someone]")).isEqualTo("song");
+        assertThat(SongNormalizer.normalizeTitle("Song ft. Someone")).isEqualTo("song");
+        assertThat(SongNormalizer.normalizeTitle("Song (ft Someone)")).isEqualTo("song");
+        assertThat(SongNormalizer.normalizeTitle("Song featuring Someone")).isEqualTo("song");
+    }
+
+    @Test
+    void normalizeArtistStripsFeaturing() {
+        assertThat(SongNormalizer.normalizeArtist("YOASOBI feat. Someone")).isEqualTo("yoasobi");
+        assertThat(SongNormalizer.normalizeArtist("ＹＯＡＳＯＢＩ")).isEqualTo("yoasobi");
+    }
+
+    @Test
+    void normalizeKeepsWordsThatOnlyStartLikeFeaturing() {
+        assertThat(SongNormalizer.normalizeTitle("Feature")).isEqualTo("feature");
+        assertThat(SongNormalizer.normalizeTitle("Left Right")).isEqualTo("left right");
+        // 괄호 밖의 점 없는 feat는 일반 단어
+        assertThat(SongNormalizer.normalizeTitle("Great Feat of Strength")).isEqualTo("great feat of strength");
+        assertThat(SongNormalizer.normalizeArtist("Soft Machine")).isEqualTo("soft machine");
+        // feat. 표기만 있으면 원래 값 유지
+        assertThat(SongNormalizer.normalizeTitle("feat. X")).isEqualTo("feat. x");
+    }
+}
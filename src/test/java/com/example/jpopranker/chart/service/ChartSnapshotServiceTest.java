@@ -0,0 +1,231 @@
+package com.example.jpopranker.chart.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.jpopranker.chart.entity.ChartEntry;
+import com.example.jpopranker.chart.entity.ChartSnapshot;
+import com.example.jpopranker.chart.identity.SongIdentityIndex;
+import com.example.jpopranker.chart.repository.ChartBatchRepository;
+import com.example.jpopranker.chart.repository.ChartEntryRepository;
+import com.example.jpopranker.chart.repository.ChartSnapshotRepository;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import com.example.jpopranker.song.entity.RankMovement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ChartSnapshotServiceTest {
+
+    private static final String CHART = "billboard-japan";
+    private static final LocalDate JAN_08 = LocalDate.of(2024, 1, 8);
+    private static final LocalDate JAN_15 = LocalDate.of(2024, 1, 15);
+    private static final LocalDate JAN_22 = LocalDate.of(2024, 1, 22);
+
+    private final ChartSnapshotRepository chartSnapshotRepository = mock(ChartSnapshotRepository.class);
+    private final ChartEntryRepository chartEntryRepository = mock(ChartEntryRepository.class);
+    private final ChartBatchRepository chartBatchRepository = mock(ChartBatchRepository.class);
+    private final SongIdentityIndex songIdentityIndex = mock(SongIdentityIndex.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private ChartSnapshotService service;
+
+    // DB 대신 쓰는 스냅샷/엔트리 (updateEntryMovements는 따로 기록하고 여기에는 반영하지 않음)
+    private final List<ChartSnapshot> snapshots = new ArrayList<>();
+    private final List<ChartEntry> entries = new ArrayList<>();
+    private final Map<Long, RankMovement> updatedMovements = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new ChartSnapshotService(chartSnapshotRepository, chartEntryRepository, chartBatchRepository,
+            songIdentityIndex, mock(ApplicationEventPublisher.class), transactionTemplate);
+
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // 제목 "song-N" -> 곡 ID N, "broken"은 등록 실패
+        when(songIdentityIndex.resolveAll(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Long> ids = new HashMap<>();
+            for (SongRequestDto song : invocation.<Collection<SongRequestDto>>getArgument(0)) {
+                if (song.getTitle().equals("broken")) {
+                    throw new IllegalStateException("등록 실패");
+                }
+                ids.put(song.getTitle() + "|" + song.getArtist(), Long.parseLong(song.getTitle().substring(5)));
+            }
+            return ids;
+        });
+
+        when(chartSnapshotRepository.findByChartNameAndChartDate(anyString(), any())).thenAnswer(
+            invocation -> snapshots.stream()
+                .filter(snapshot -> snapshot.getChartDate().equals(invocation.getArgument(1)))
+                .findFirst());
+        when(chartSnapshotRepository.findFirstByChartNameAndChartDateBeforeOrderByChartDateDesc(anyString(), any()))
+            .thenAnswer(invocation -> snapshots.stream()
+                .filter(snapshot -> snapshot.getChartDate().isBefore(invocation.getArgument(1)))
+                .max(Comparator.comparing(ChartSnapshot::getChartDate)));
+        when(chartSnapshotRepository.findByChartNameAndChartDateAfterOrderByChartDateAsc(anyString(), any()))
+            .thenAnswer(invocation -> snapshots.stream()
+                .filter(snapshot -> snapshot.getChartDate().isAfter(invocation.getArgument(1)))
+                .sorted(Comparator.comparing(ChartSnapshot::getChartDate))
+                .toList());
+        when(chartSnapshotRepository.save(any())).thenAnswer(invocation -> {
+            ChartSnapshot snapshot = invocation.getArgument(0);
+            ChartSnapshot saved = ChartSnapshot.builder()
+                .id(snapshot.getId() != null ? snapshot.getId() : snapshots.size() + 1L)
+                .chartName(snapshot.getChartName())
+                .chartDate(snapshot.getChartDate())
+                .entryCount(snapshot.getEntryCount())
+                .build();
+            snapshots.add(saved);
+            return saved;
+        });
+
+        when(chartEntryRepository.findBySnapshotId(anyLong())).thenAnswer(invocation -> entries.stream()
+            .filter(entry -> entry.getSnapshotId().equals(invocation.getArgument(0)))
+            .toList());
+        when(chartEntryRepository.findEntriesBefore(anyString(), anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<Long> songIds = invocation.getArgument(1);
+            LocalDate chartDate = invocation.getArgument(2);
+            return entries.stream()
+                .filter(entry -> songIds.contains(entry.getSongIdentityId()))
+                .filter(entry -> entry.getChartDate().isBefore(chartDate))
+                .sorted(Comparator.comparing(ChartEntry::getChartDate).reversed())
+                .toList();
+        });
+        doAnswer(invocation -> {
+            for (ChartEntry entry : invocation.<List<ChartEntry>>getArgument(0)) {
+                entries.add(ChartEntry.builder()
+                    .id(entries.size() + 1L)
+                    .snapshotId(entry.getSnapshotId())
+                    .chartName(entry.getChartName())
+                    .chartDate(entry.getChartDate())
+                    .ranking(entry.getRanking())
+                    .songIdentityId(entry.getSongIdentityId())
+                    .movement(entry.getMovement())
+                    .build());
+            }
+            return null;
+        }).when(chartBatchRepository).insertEntries(anyList());
+        doAnswer(invocation -> {
+            for (ChartEntry entry : invocation.<List<ChartEntry>>getArgument(0)) {
+                updatedMovements.put(entry.getId(), entry.getMovement());
+            }
+            return null;
+        }).when(chartBatchRepository).updateEntryMovements(anyList());
+    }
+
+    @Test
+    void movementsFollowPreviousSnapshotAndEarlierHistory() {
+        service.recordSnapshot(CHART, JAN_08, List.of(song(1, 3), song(2, 5)));
+        service.recordSnapshot(CHART, JAN_15, List.of(song(1, 2), song(3, 1)));
+
+        Map<String, RankMovement> movements = service.recordSnapshot(CHART, JAN_22,
+            List.of(song(1, 4), song(2, 1), song(4, 2)));
+
+        RankMovement stayed = movements.get("song-1|artist");
+        assertThat(stayed.getPreviousRanking()).isEqualTo(2);
+        assertThat(stayed.getRankDelta()).isEqualTo(-2);
+        assertThat(stayed.getPeakRanking()).isEqualTo(2);
+        assertThat(stayed.getWeeksOnChart()).isEqualTo(3);
+
+        RankMovement reEntered = movements.get("song-2|artist");
+        assertThat(reEntered.getReEntry()).isTrue();
+        assertThat(reEntered.getPreviousRanking()).isNull();
+        assertThat(reEntered.getPeakRanking()).isEqualTo(1);
+        assertThat(reEntered.getWeeksOnChart()).isEqualTo(2);
+
+        RankMovement debut = movements.get("song-4|artist");
+        assertThat(debut.getNewEntry()).isTrue();
+        assertThat(debut.getWeeksOnChart()).isEqualTo(1);
+    }
+
+    @Test
+    void backfillingEarlierDateRecomputesLaterSnapshots() {
+        service.recordSnapshot(CHART, JAN_15, List.of(song(1, 3)));
+        service.recordSnapshot(CHART, JAN_22, List.of(song(1, 2), song(2, 5)));
+
+        List<LocalDate> failed = new ArrayList<>();
+        int written = service.recordSnapshotsIsolated(CHART, snapshots(JAN_08, List.of(song(1, 1), song(2, 4))),
+            failed);
+
+        assertThat(written).isEqualTo(1);
+        assertThat(failed).isEmpty();
+
+        RankMovement jan15 = updatedMovement(JAN_15, 1);
+        assertThat(jan15.getNewEntry()).isFalse();
+        assertThat(jan15.getPreviousRanking()).isEqualTo(1);
+        assertThat(jan15.getPeakRanking()).isEqualTo(1);
+        assertThat(jan15.getWeeksOnChart()).isEqualTo(2);
+
+        // 1월 15일 엔트리는 DB에 옛 값이 남아 있어도 재계산한 값에 이어서 계산
+        RankMovement jan22 = updatedMovement(JAN_22, 1);
+        assertThat(jan22.getPreviousRanking()).isEqualTo(3);
+        assertThat(jan22.getPeakRanking()).isEqualTo(1);
+        assertThat(jan22.getWeeksOnChart()).isEqualTo(3);
+
+        RankMovement reEntered = updatedMovement(JAN_22, 2);
+        assertThat(reEntered.getNewEntry()).isFalse();
+        assertThat(reEntered.getReEntry()).isTrue();
+        assertThat(reEntered.getPeakRanking()).isEqualTo(4);
+        assertThat(reEntered.getWeeksOnChart()).isEqualTo(2);
+    }
+
+    @Test
+    void failedDateIsIsolatedFromRestOfBatch() {
+        SortedMap<LocalDate, List<SongRequestDto>> batch = new TreeMap<>();
+        batch.put(JAN_08, List.of(song(1, 1)));
+        batch.put(JAN_15, List.of(new SongRequestDto("broken", "artist", 1, CHART)));
+        batch.put(JAN_22, List.of(song(1, 2)));
+
+        List<LocalDate> failed = new ArrayList<>();
+        int written = service.recordSnapshotsIsolated(CHART, batch, failed);
+
+        assertThat(written).isEqualTo(2);
+        assertThat(failed).containsExactly(JAN_15);
+        assertThat(snapshots).extracting(ChartSnapshot::getChartDate).containsExactly(JAN_08, JAN_22);
+    }
+
+    private RankMovement updatedMovement(LocalDate chartDate, long songIdentityId) {
+        ChartEntry entry = entries.stream()
+            .filter(e -> e.getChartDate().equals(chartDate) && e.getSongIdentityId() == songIdentityId)
+            .findFirst()
+            .orElseThrow();
+        return Optional.ofNullable(updatedMovements.get(entry.getId())).orElseThrow();
+    }
+
+    private static SortedMap<LocalDate, List<SongRequestDto>> snapshots(LocalDate chartDate,
+        List<SongRequestDto> songs) {
+        SortedMap<LocalDate, List<SongRequestDto>> snapshots = new TreeMap<>();
+        snapshots.put(chartDate, songs);
+        return snapshots;
+    }
+
+    private static SongRequestDto song(long songIdentityId, int ranking) {
+        return new SongRequestDto("song-" + songIdentityId, "artist", ranking, CHART);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.jpopranker.crawler.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class HostRateLimiterTest {
+
+    private static final long TOKEN_NANOS = Duration.ofMillis(200).toNanos();
+
+    // 시각은 테스트에서 직접 움직임
+    private final AtomicLong now = new AtomicLong();
+
+    // 초당 5회 -> 토큰 하나에 200ms
+    private final HostRateLimiter limiter = new HostRateLimiter(5, 2, now::get);
+
+    @Test
+    void requestsWithinBurstAreNotDelayed() {
+        assertThat(limiter.reserve("a.example")).isZero();
+        assertThat(limiter.reserve("a.example")).isZero();
+    }
+
+    @Test
+    void requestBeyondBurstWaitsForNextToken() {
+        limiter.reserve("a.example");
+        limiter.reserve("a.example");
+
+        assertThat(limiter.reserve("a.example")).isEqualTo(TOKEN_NANOS);
+        // 이미 예약된 토큰 뒤로 줄을 섬
+        assertThat(limiter.reserve("a.example")).isEqualTo(2 * TOKEN_NANOS);
+    }
+
+    @Test
+    void tokensRefillOverTime() {
+        limiter.reserve("a.example");
+        limiter.reserve("a.example");
+
+        now.addAndGet(TOKEN_NANOS);
+        assertThat(limiter.reserve("a.example")).isZero();
+
+        // 쉬는 동안 쌓이는 토큰은 burst까지만
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(limiter.reserve("a.example")).isZero();
+        assertThat(limiter.reserve("a.example")).isZero();
+        assertThat(limiter.reserve("a.example")).isEqualTo(TOKEN_NANOS);
+    }
+
+    @Test
+    void hostsHaveSeparateBuckets() {
+        limiter.reserve("a.example");
+        limiter.reserve("a.example");
+
+        assertThat(limiter.reserve("b.example")).isZero();
+    }
+
+    @Test
+    void delayedRequestDoesNotBlockSubscribingThread() {
+        // 초당 0.1회 -> 두 번째 요청은 10초 뒤
+        HostRateLimiter slowLimiter = new HostRateLimiter(0.1, 1, now::get);
+        AtomicInteger exchanged = new AtomicInteger();
+        ExchangeFunction exchange = request -> Mono.fromSupplier(() -> {
+            exchanged.incrementAndGet();
+            return ClientResponse.create(HttpStatus.OK).build();
+        });
+
+        slowLimiter.filter(request("a.example"), exchange).block(Duration.ofSeconds(5));
+        assertThat(exchanged).hasValue(1);
+
+        Disposable delayed = slowLimiter.filter(request("a.example"), exchange).subscribe();
+        try {
+            // subscribe가 바로 돌아오고, 요청은 아직 나가지 않음
+            assertThat(exchanged).hasValue(1);
+        } finally {
+            delayed.dispose();
+        }
+    }
+
+    private static ClientRequest request(String host) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://" + host + "/chart")).build();
+    }
+}
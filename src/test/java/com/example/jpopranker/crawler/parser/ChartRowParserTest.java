@@ -0,0 +1,83 @@
+package com.example.jpopranker.crawler.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+// 저장해 둔 차트 페이지(src/test/resources/fixtures)에서 행 추출
+class ChartRowParserTest {
+
+    @Test
+    void billboardJapanParserReadsEveryRankedRow() throws IOException {
+        List<ChartRow> rows = parse(fixture("billboard-japan.html"), new BillboardJapanRowParser());
+
+        // 100행 중 한 글자 제목(唱) 4행은 유효성 검사에서 제외
+        assertThat(rows).hasSize(96);
+        assertThat(rows.get(0)).isEqualTo(new ChartRow(1, "hated", "Official髭男dism"));
+        assertThat(rows.get(1)).isEqualTo(new ChartRow(2, "アイドル", "NewJeans"));
+        assertThat(rows).extracting(ChartRow::rank).isSorted();
+    }
+
+    @Test
+    void billboardJapanFallbackParserMatchesPrimaryParser() throws IOException {
+        Document doc = fixture("billboard-japan.html");
+
+        assertThat(parse(doc, new BillboardJapanFallbackRowParser()))
+            .isEqualTo(parse(doc, new BillboardJapanRowParser()));
+    }
+
+    @Test
+    void oriconParserReadsMediaBoxes() throws IOException {
+        List<ChartRow> rows = parse(fixture("oricon.html"), new OriconRowParser());
+
+        assertThat(rows).hasSize(50);
+        assertThat(rows.get(0)).isEqualTo(new ChartRow(1, "満ちてゆく", "Mrs. GREEN APPLE"));
+        assertThat(rows.get(49).title()).isEqualTo("Overdose");
+    }
+
+    @Test
+    void billboardJapanParserSkipsInvalidRows() {
+        Document doc = Jsoup.parse("""
+            <table><tbody>
+              <tr class="rank1"><td class="rank_td"><span>1</span></td>
+                <td><p class="musuc_title">1 Title</p><p class="artist_name">Artist</p></td></tr>
+              <tr class="rank2"><td class="rank_td"><span>-</span></td>
+                <td><p class="musuc_title">No Rank</p><p class="artist_name">Artist</p></td></tr>
+              <tr class="rank3"><td class="rank_td"><span>3</span></td>
+                <td><p class="musuc_title">Same</p><p class="artist_name">Same</p></td></tr>
+              <tr class="rank4"><td class="rank_td"><span>4</span></td>
+                <td><p class="musuc_title">Title</p><p class="artist_name">Unknown</p></td></tr>
+              <tr class="rank5"><td class="rank_td"><span>5</span></td>
+                <td><p class="musuc_title">Missing Artist</p></td></tr>
+            </tbody></table>
+            """);
+
+        assertThat(parse(doc, new BillboardJapanRowParser()))
+            .containsExactly(new ChartRow(1, "Title", "Artist"));
+    }
+
+    private static List<ChartRow> parse(Document doc, ChartRowParser parser) {
+        List<ChartRow> rows = new ArrayList<>();
+        for (Element row : doc.select(parser.rowEvaluator())) {
+            ChartRow chartRow = parser.parse(row);
+            if (chartRow != null) {
+                rows.add(chartRow);
+            }
+        }
+        return rows;
+    }
+
+    private static Document fixture(String name) throws IOException {
+        try (InputStream in = ChartRowParserTest.class.getResourceAsStream("/fixtures/" + name)) {
+            return Jsoup.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.jpopranker.crawler.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ParseSupportTest {
+
+    @Test
+    void parseRankReadsDigitsWithSurroundingWhitespace() {
+        assertThat(ParseSupport.parseRank("1")).isEqualTo(1);
+        assertThat(ParseSupport.parseRank("  42 \n")).isEqualTo(42);
+        assertThat(ParseSupport.parseRank("007")).isEqualTo(7);
+    }
+
+    @Test
+    void parseRankRejectsNonDigits() {
+        assertThat(ParseSupport.parseRank("")).isEqualTo(-1);
+        assertThat(ParseSupport.parseRank("   ")).isEqualTo(-1);
+        assertThat(ParseSupport.parseRank("1位")).isEqualTo(-1);
+        assertThat(ParseSupport.parseRank("-3")).isEqualTo(-1);
+        assertThat(ParseSupport.parseRank("1 2")).isEqualTo(-1);
+        // int 범위를 넘을 수 있는 길이
+        assertThat(ParseSupport.parseRank("1234567890")).isEqualTo(-1);
+    }
+
+    @Test
+    void stripLeadingNumberMatchesLegacyRegex() {
+        for (String text : new String[] {"12 Title", "12Title", "Title", "1", "  3 Title", "99  Red Balloons ", ""}) {
+            assertThat(ParseSupport.stripLeadingNumber(text))
+                .as(text)
+                .isEqualTo(text.replaceAll("^\\d+\\s*", "").trim());
+        }
+    }
+}
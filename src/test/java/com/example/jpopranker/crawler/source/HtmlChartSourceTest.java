@@ -0,0 +1,89 @@
+package com.example.jpopranker.crawler.source;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.jpopranker.crawler.config.CrawlerProperties;
+import com.example.jpopranker.song.dto.request.SongRequestDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+// 스트리밍 추출이 DOM 추출과 같은 결과를 내는지 (저장해 둔 차트 페이지 기준)
+class HtmlChartSourceTest {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    @Test
+    void streamingMatchesDomParseForBillboardJapan() throws IOException {
+        HtmlChartSource source = new BillboardJapanChartSource(null, new CrawlerProperties(), null);
+        byte[] page = fixture("billboard-japan.html");
+
+        List<SongRequestDto> streamed = source.postProcessRows(
+            source.parseStream(chunks(page, new ByteArrayOutputStream()), StandardCharsets.UTF_8, false)
+                .collectList()
+                .block());
+
+        assertThat(keys(streamed)).isEqualTo(keys(source.parse(new String(page, StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void streamingMatchesDomParseForOricon() throws IOException {
+        HtmlChartSource source = new OriconChartSource(null, new CrawlerProperties(), null);
+        byte[] page = fixture("oricon.html");
+
+        List<SongRequestDto> streamed = source.parseStream(chunks(page, new ByteArrayOutputStream()),
+            StandardCharsets.UTF_8, false).collectList().block();
+
+        assertThat(keys(streamed)).isEqualTo(keys(source.parse(new String(page, StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void streamingStopsAfterTopNUnlessReadFully() throws IOException {
+        HtmlChartSource source = new BillboardJapanChartSource(null, new CrawlerProperties(), null);
+        // 파서/버퍼가 미리 읽는 양보다 충분히 긴 꼬리를 붙임
+        byte[] page = (new String(fixture("billboard-japan.html"), StandardCharsets.UTF_8)
+            + "<!--" + "x".repeat(512 * 1024) + "-->").getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream prefix = new ByteArrayOutputStream();
+        source.parseStream(chunks(page, prefix), StandardCharsets.UTF_8, false).collectList().block();
+        assertThat(prefix.size()).isLessThan(page.length);
+
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        List<SongRequestDto> rows = source.parseStream(chunks(page, full), StandardCharsets.UTF_8, true)
+            .collectList()
+            .block();
+        assertThat(rows).hasSize(50);
+        assertThat(full.toByteArray()).isEqualTo(page);
+    }
+
+    // 응답처럼 조각내서 흘려보내고, 구독된 조각은 received에 복사
+    private static Flux<DataBuffer> chunks(byte[] page, ByteArrayOutputStream received) {
+        List<byte[]> parts = new ArrayList<>();
+        for (int offset = 0; offset < page.length; offset += CHUNK_SIZE) {
+            parts.add(Arrays.copyOfRange(page, offset, Math.min(page.length, offset + CHUNK_SIZE)));
+        }
+        return Flux.fromIterable(parts)
+            .doOnNext(part -> received.write(part, 0, part.length))
+            .map(part -> DefaultDataBufferFactory.sharedInstance.wrap(part));
+    }
+
+    private static List<String> keys(List<SongRequestDto> songs) {
+        return songs.stream()
+            .map(song -> song.getRanking() + "|" + song.getTitle() + "|" + song.getArtist())
+            .toList();
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = HtmlChartSourceTest.class.getResourceAsStream("/fixtures/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.jpopranker.song.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.jpopranker.song.dto.response.SongResponseDto;
+import com.example.jpopranker.song.entity.CompositeRanking;
+import com.example.jpopranker.song.entity.RankMovement;
+import com.example.jpopranker.song.entity.Song;
+import com.example.jpopranker.song.event.ChartDataReplacedEvent;
+import com.example.jpopranker.song.event.ChartsReloadedEvent;
+import com.example.jpopranker.song.repository.CompositeRankingRepository;
+import com.example.jpopranker.song.repository.SongBatchRepository;
+import com.example.jpopranker.song.store.ChartData;
+import com.example.jpopranker.song.store.ChartPayloadWriter;
+import com.example.jpopranker.song.store.ChartStore;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class CompositeChartServiceTest {
+
+    private static final String COMPOSITE = "jpop-ranker";
+
+    private final ChartStore chartStore = mock(ChartStore.class);
+    private final ChartPayloadWriter payloadWriter = mock(ChartPayloadWriter.class);
+    private final SongBatchRepository songBatchRepository = mock(SongBatchRepository.class);
+    private final CompositeRankingRepository compositeRankingRepository = mock(CompositeRankingRepository.class);
+
+    private CompositeChartService service;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        CompositeChartProperties properties = new CompositeChartProperties();
+        properties.getSources().put("billboard-japan", source(1.0, 100));
+        properties.getSources().put("oricon", source(2.0, 50));
+        service = new CompositeChartService(properties, chartStore, payloadWriter, songBatchRepository,
+            compositeRankingRepository);
+        when(songBatchRepository.publishDerivedChart(eq(COMPOSITE), anyMap(), anyMap()))
+            .thenAnswer(invocation -> versions.incrementAndGet());
+        when(compositeRankingRepository.findByChartName(COMPOSITE)).thenReturn(List.of());
+    }
+
+    @Test
+    void scoresAreWeightedSumOfSourcePoints() {
+        // billboard: 1 -> 100점, 2 -> 99점 / oricon(x2): 1 -> 100점, 2 -> 98점
+        replace("billboard-japan", false, row(1, 1), row(2, 2));
+        replace("oricon", false, row(2, 1), row(3, 2));
+
+        List<SongResponseDto> chart = lastPublished().toResponse();
+        assertThat(chart).extracting(SongResponseDto::getSongIdentityId).containsExactly(2L, 1L, 3L);
+        assertThat(chart).extracting(SongResponseDto::getRanking).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void reloadPublishesOnceAfterAllSources() {
+        replace("billboard-japan", true, row(1, 1), row(2, 2));
+        replace("oricon", true, row(2, 1));
+        verify(chartStore, never()).publish(any());
+
+        service.onChartsReloaded(new ChartsReloadedEvent());
+
+        verify(chartStore, times(1)).publish(any());
+        verify(songBatchRepository, times(1)).publishDerivedChart(eq(COMPOSITE), anyMap(), anyMap());
+        assertThat(lastPublished().toResponse()).extracting(SongResponseDto::getSongIdentityId)
+            .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void reloadWithoutChangesDoesNotPublish() {
+        service.onChartsReloaded(new ChartsReloadedEvent());
+
+        verify(chartStore, never()).publish(any());
+    }
+
+    @Test
+    void movementContinuesFromPersistedRankingsAfterRestart() {
+        when(compositeRankingRepository.findByChartName(COMPOSITE)).thenReturn(List.of(
+            ranking(1, 2, 1),
+            ranking(2, null, 3)));
+
+        replace("oricon", true, row(1, 1), row(2, 2), row(3, 3));
+        service.onChartsReloaded(new ChartsReloadedEvent());
+
+        List<SongResponseDto> chart = lastPublished().toResponse();
+        SongResponseDto climbed = chart.get(0);
+        assertThat(climbed.getPreviousRanking()).isEqualTo(2);
+        assertThat(climbed.getRankDelta()).isEqualTo(1);
+        assertThat(climbed.getPeakRanking()).isEqualTo(1);
+        assertThat(climbed.getNewEntry()).isFalse();
+        assertThat(climbed.getReEntry()).isFalse();
+
+        SongResponseDto returned = chart.get(1);
+        assertThat(returned.getPreviousRanking()).isNull();
+        assertThat(returned.getPeakRanking()).isEqualTo(2);
+        assertThat(returned.getNewEntry()).isFalse();
+        assertThat(returned.getReEntry()).isTrue();
+
+        SongResponseDto debut = chart.get(2);
+        assertThat(debut.getNewEntry()).isTrue();
+        assertThat(debut.getPeakRanking()).isEqualTo(3);
+    }
+
+    @Test
+    void movementTracksPreviousPublishAndReEntry() {
+        replace("oricon", false, row(1, 1), row(2, 2));
+        replace("oricon", false, row(2, 1));
+        replace("oricon", false, row(2, 1), row(1, 2));
+
+        List<SongResponseDto> chart = lastPublished().toResponse();
+        SongResponseDto stayed = chart.get(0);
+        assertThat(stayed.getSongIdentityId()).isEqualTo(2L);
+        assertThat(stayed.getPreviousRanking()).isEqualTo(1);
+        assertThat(stayed.getRankDelta()).isZero();
+        assertThat(stayed.getPeakRanking()).isEqualTo(1);
+
+        SongResponseDto returned = chart.get(1);
+        assertThat(returned.getSongIdentityId()).isEqualTo(1L);
+        assertThat(returned.getReEntry()).isTrue();
+        assertThat(returned.getPeakRanking()).isEqualTo(1);
+    }
+
+    @Test
+    void weeksOnChartIsLongestAmongSources() {
+        replace("billboard-japan", false, row(1, 1, 5));
+        replace("oricon", false, row(1, 3, 8));
+
+        assertThat(lastPublished().toResponse().get(0).getWeeksOnChart()).isEqualTo(8);
+    }
+
+    private void replace(String chartName, boolean reload, Song... rows) {
+        ChartData chart = ChartData.of(chartName, versions.get() + 1, LocalDateTime.now(), List.of(rows),
+            payloadWriter);
+        service.onChartReplaced(new ChartDataReplacedEvent(chartName, null, chart, reload));
+    }
+
+    private ChartData lastPublished() {
+        ArgumentCaptor<ChartData> published = ArgumentCaptor.forClass(ChartData.class);
+        verify(chartStore, atLeastOnce()).publish(published.capture());
+        List<ChartData> charts = new ArrayList<>(published.getAllValues());
+        return charts.get(charts.size() - 1);
+    }
+
+    private static Song row(long songId, int ranking) {
+        return row(songId, ranking, null);
+    }
+
+    private static Song row(long songId, int ranking, Integer weeks) {
+        return Song.builder()
+            .id(songId * 100 + ranking)
+            .title("Song " + songId)
+            .artist("Artist " + songId)
+            .ranking(ranking)
+            .songIdentityId(songId)
+            .movement(weeks == null ? null : RankMovement.builder().weeksOnChart(weeks).build())
+            .build();
+    }
+
+    private static CompositeRanking ranking(long songId, Integer ranking, int peak) {
+        return CompositeRanking.builder()
+            .chartName(COMPOSITE)
+            .songIdentityId(songId)
+            .ranking(ranking)
+            .peakRanking(peak)
+            .build();
+    }
+
+    private static CompositeChartProperties.Source source(double weight, int maxRank) {
+        CompositeChartProperties.Source source = new CompositeChartProperties.Source();
+        source.setWeight(weight);
+        source.setMaxRank(maxRank);
+        return source;
+    }
+}
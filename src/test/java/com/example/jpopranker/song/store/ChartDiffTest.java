@@ -0,0 +1,89 @@
+package com.example.jpopranker.song.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+import com.example.jpopranker.song.entity.Song;
+import com.example.jpopranker.song.store.ChartDiff.Change;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChartDiffTest {
+
+    private static final String CHART = "oricon";
+
+    private final ChartPayloadWriter payloadWriter = mock(ChartPayloadWriter.class);
+
+    @Test
+    void classifiesInsertedMovedAndDroppedSongs() {
+        ChartData previous = chart(1, song(1, "A", 1, 100L), song(2, "B", 2, 200L), song(3, "C", 3, 300L));
+        ChartData current = chart(2, song(11, "B", 1, 200L), song(12, "A", 2, 100L), song(13, "D", 3, 400L));
+
+        ChartDiff diff = ChartDiff.between(previous, current);
+
+        assertThat(diff.getChartName()).isEqualTo(CHART);
+        assertThat(diff.getFromVersion()).isEqualTo(1);
+        assertThat(diff.getToVersion()).isEqualTo(2);
+        assertThat(diff.getInserted()).extracting(Change::getId, Change::getTitle)
+            .containsExactly(tuple(13L, "D"));
+        assertThat(diff.getMoved()).extracting(Change::getTitle, Change::getRanking, Change::getPreviousRanking)
+            .containsExactly(tuple("B", 1, 2), tuple("A", 2, 1));
+        // 빠진 곡은 이전 버전의 행 id
+        assertThat(diff.getDropped()).extracting(Change::getId, Change::getTitle)
+            .containsExactly(tuple(3L, "C"));
+    }
+
+    @Test
+    void songsAreMatchedByIdentityEvenIfSpellingChanged() {
+        ChartData previous = chart(1, song(1, "Idol", 1, 100L));
+        ChartData current = chart(2, song(2, "アイドル", 1, 100L));
+
+        assertThat(ChartDiff.between(previous, current).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rowsWithoutIdentityAreMatchedByTitleAndArtist() {
+        ChartData previous = chart(1, song(1, "A", 1, null), song(2, "B", 2, null));
+        ChartData current = chart(2, song(3, "A", 2, null), song(4, "C", 1, null));
+
+        ChartDiff diff = ChartDiff.between(previous, current);
+
+        assertThat(diff.getMoved()).extracting(Change::getTitle).containsExactly("A");
+        assertThat(diff.getInserted()).extracting(Change::getTitle).containsExactly("C");
+        assertThat(diff.getDropped()).extracting(Change::getTitle).containsExactly("B");
+    }
+
+    @Test
+    void everySongIsInsertedWithoutPreviousVersion() {
+        ChartDiff diff = ChartDiff.between(null, chart(1, song(1, "A", 1, 100L), song(2, "B", 2, 200L)));
+
+        assertThat(diff.getFromVersion()).isZero();
+        assertThat(diff.getInserted()).extracting(Change::getTitle).containsExactly("A", "B");
+        assertThat(diff.getMoved()).isEmpty();
+        assertThat(diff.getDropped()).isEmpty();
+    }
+
+    @Test
+    void sameChartHasNoChanges() {
+        ChartData chart = chart(3, song(1, "A", 1, 100L), song(2, "B", 2, 200L));
+
+        assertThat(ChartDiff.between(chart, chart).isEmpty()).isTrue();
+    }
+
+    private ChartData chart(long version, Song... songs) {
+        return ChartData.of(CHART, version, LocalDateTime.now(), List.of(songs), payloadWriter);
+    }
+
+    private static Song song(long id, String title, int ranking, Long songIdentityId) {
+        return Song.builder()
+            .id(id)
+            .title(title)
+            .artist("artist")
+            .ranking(ranking)
+            .chartName(CHART)
+            .songIdentityId(songIdentityId)
+            .build();
+    }
+}
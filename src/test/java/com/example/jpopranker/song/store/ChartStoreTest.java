@@ -0,0 +1,98 @@
+package com.example.jpopranker.song.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.jpopranker.song.entity.ChartVersion;
+import com.example.jpopranker.song.entity.Song;
+import com.example.jpopranker.song.event.ChartVersionPublishedEvent;
+import com.example.jpopranker.song.event.SongDataChangedEvent;
+import com.example.jpopranker.song.repository.ChartVersionRepository;
+import com.example.jpopranker.song.repository.SongBatchRepository;
+import com.example.jpopranker.song.repository.SongRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+class ChartStoreTest {
+
+    private static final String CHART = "oricon";
+
+    private final SongRepository songRepository = mock(SongRepository.class);
+    private final SongBatchRepository songBatchRepository = mock(SongBatchRepository.class);
+    private final ChartVersionRepository chartVersionRepository = mock(ChartVersionRepository.class);
+
+    private ChartStore chartStore;
+
+    // 버전 -> 그 버전의 행 (DB 대신)
+    private final Map<Long, List<Song>> rows = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        chartStore = new ChartStore(songRepository, songBatchRepository, chartVersionRepository,
+            new ChartPayloadWriter(new ObjectMapper().findAndRegisterModules()), mock(ApplicationEventPublisher.class));
+        when(songRepository.findByChartNameAndChartVersion(anyString(), anyLong()))
+            .thenAnswer(invocation -> rows.getOrDefault(invocation.<Long>getArgument(1), List.of()));
+
+        rows.put(3L, List.of(song(1, "A", 1), song(2, "B", 2)));
+        chartStore.onVersionPublished(new ChartVersionPublishedEvent(CHART, 2, 3));
+    }
+
+    @Test
+    void cleanupThatChangesCurrentChartPublishesNewVersion() {
+        rows.put(3L, List.of(song(1, "A", 1)));
+        when(chartVersionRepository.findById(CHART)).thenReturn(Optional.of(version(3)));
+        when(songBatchRepository.bumpChartVersion(CHART, 3)).thenAnswer(invocation -> {
+            rows.put(4L, rows.remove(3L));
+            return 4L;
+        });
+
+        chartStore.onDataChanged(new SongDataChangedEvent(CHART));
+
+        assertThat(chartStore.getChart(CHART)).get().extracting(ChartData::getVersion, ChartData::size)
+            .containsExactly(4L, 1);
+        // since=3으로 조회하는 쪽이 정리 전 내용과 비교할 수 있음
+        assertThat(chartStore.getPastVersion(CHART, 3)).get().extracting(ChartData::size).isEqualTo(2);
+    }
+
+    @Test
+    void reloadWithoutChangesKeepsVersion() {
+        when(chartVersionRepository.findById(CHART)).thenReturn(Optional.of(version(3)));
+
+        chartStore.onDataChanged(new SongDataChangedEvent(CHART));
+
+        verify(songBatchRepository, never()).bumpChartVersion(anyString(), anyLong());
+        assertThat(chartStore.getChart(CHART)).get().extracting(ChartData::getVersion).isEqualTo(3L);
+    }
+
+    private static ChartVersion version(long currentVersion) {
+        return ChartVersion.builder()
+            .chartName(CHART)
+            .currentVersion(currentVersion)
+            .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .build();
+    }
+
+    private static Song song(long id, String title, int ranking) {
+        return Song.builder()
+            .id(id)
+            .title(title)
+            .artist("artist")
+            .ranking(ranking)
+            .chartName(CHART)
+            .songIdentityId(id)
+            .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .build();
+    }
+}